@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.NotationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности пакетного преобразования нотаций.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchBenchmark
+{
+	/**
+	 * Количество строк в пакете.
+	 */
+	@Param({"1000"})
+	public int size;
+
+	/**
+	 * Количество различных строк в пакете.
+	 */
+	@Param({"10", "1000"})
+	public int distinct;
+
+	/**
+	 * Пакет строк.
+	 */
+	private String[] values;
+
+	/**
+	 * Подготавливает пакет строк.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.values = new String[this.size];
+
+		for (int index = 0; index < this.size; index++) {
+			this.values[index] = "userAccount" + (index % this.distinct) + "CreatedAt";
+		}
+	}
+
+	/**
+	 * Преобразование каждой строки методом {@link Notations#to(String, NotationType)}.
+	 *
+	 * @return строки в нотации Snake Case.
+	 */
+	@Benchmark
+	public String[] toEach()
+	{
+		String[] results = new String[this.values.length];
+
+		for (int index = 0; index < this.values.length; index++) {
+			results[index] = Notations.to(this.values[index], NotationType.SNAKE_CASE);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Преобразование пакета методом {@link Notations#toAll(String[], NotationType)}.
+	 *
+	 * @return строки в нотации Snake Case.
+	 */
+	@Benchmark
+	public String[] toAll()
+	{
+		return Notations.toAll(this.values, NotationType.SNAKE_CASE);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.NotationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения преобразования байтов UTF-8 с декодированием в строку и обратным кодированием.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ByteBenchmark
+{
+	/**
+	 * Байты составного слова.
+	 */
+	private byte[] source;
+
+	/**
+	 * Буфер результата.
+	 */
+	private byte[] destination;
+
+	/**
+	 * Подготавливает байты составного слова.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.source = "request_header_value_user_account_id".getBytes(StandardCharsets.UTF_8);
+		this.destination = new byte[this.source.length * 2];
+	}
+
+	/**
+	 * Декодирование, преобразование и кодирование.
+	 *
+	 * @return байты составного слова в нотации Camel Case.
+	 */
+	@Benchmark
+	public byte[] decodeConvertEncode()
+	{
+		return Notations.toCamelCase(new String(this.source, StandardCharsets.UTF_8))
+						.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Преобразование байтов без декодирования.
+	 *
+	 * @return количество записанных байтов.
+	 */
+	@Benchmark
+	public int convertBytes()
+	{
+		return Notations.convert(
+			this.source, 0, this.source.length, NotationType.CAMEL_CASE, this.destination, 0
+		);
+	}
+
+	/**
+	 * Проверка байтов без декодирования.
+	 *
+	 * @return {@code true}, если байты соответствуют нотации Snake Case.
+	 */
+	@Benchmark
+	public boolean isBytes()
+	{
+		return Notations.is(this.source, 0, this.source.length, NotationType.SNAKE_CASE);
+	}
+}
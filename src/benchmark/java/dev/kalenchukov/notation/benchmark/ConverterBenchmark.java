@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности преобразования нотаций в зависимости от количества слов.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConverterBenchmark
+{
+	/**
+	 * Количество слов в составном слове.
+	 */
+	@Param({"2", "10", "50"})
+	public int words;
+
+	/**
+	 * Составное слово в нотации Camel Case.
+	 */
+	private String value;
+
+	/**
+	 * Подготавливает составное слово.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.value = "word" + "Word".repeat(this.words - 1);
+	}
+
+	/**
+	 * Преобразование в нотацию Snake Case.
+	 *
+	 * @return строку в нотации Snake Case.
+	 */
+	@Benchmark
+	public String toSnakeCase()
+	{
+		return Notations.toSnakeCase(this.value);
+	}
+
+	/**
+	 * Преобразование в нотацию Pascal Case.
+	 *
+	 * @return строку в нотации Pascal Case.
+	 */
+	@Benchmark
+	public String toPascalCase()
+	{
+		return Notations.toPascalCase(this.value);
+	}
+}
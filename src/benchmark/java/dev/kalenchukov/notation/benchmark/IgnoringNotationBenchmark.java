@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения строк без учёта нотации с предварительным преобразованием в нотацию Snake Case.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IgnoringNotationBenchmark
+{
+	/**
+	 * Строка в нотации Camel Case.
+	 */
+	private String value = "requestHeaderValueUserAccountId";
+
+	/**
+	 * Строка в нотации Upper Case.
+	 */
+	private String other = "REQUEST_HEADER_VALUE_USER_ACCOUNT_ID";
+
+	/**
+	 * Сравнение строк после преобразования в нотацию Snake Case.
+	 *
+	 * @return {@code true}, если строки равны без учёта нотации.
+	 */
+	@Benchmark
+	public boolean equalsSnakeCase()
+	{
+		return Notations.toSnakeCase(this.value).equals(Notations.toSnakeCase(this.other));
+	}
+
+	/**
+	 * Сравнение строк методом {@link Notations#equalsIgnoringNotation(CharSequence, CharSequence)}.
+	 *
+	 * @return {@code true}, если строки равны без учёта нотации.
+	 */
+	@Benchmark
+	public boolean equalsIgnoringNotation()
+	{
+		return Notations.equalsIgnoringNotation(this.value, this.other);
+	}
+
+	/**
+	 * Хеш-код строки после преобразования в нотацию Snake Case.
+	 *
+	 * @return хеш-код.
+	 */
+	@Benchmark
+	public int hashSnakeCase()
+	{
+		return Notations.toSnakeCase(this.value).hashCode();
+	}
+
+	/**
+	 * Хеш-код строки методом {@link Notations#notationInsensitiveHash(CharSequence)}.
+	 *
+	 * @return хеш-код.
+	 */
+	@Benchmark
+	public long notationInsensitiveHash()
+	{
+		return Notations.notationInsensitiveHash(this.value);
+	}
+}
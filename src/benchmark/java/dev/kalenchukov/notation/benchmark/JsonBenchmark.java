@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.NotationType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения скорости потокового изменения нотации имён членов объектов JSON.
+ * <p>Счётчик {@code megabytes} показывает скорость обработки в мегабайтах JSON в секунду.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonBenchmark
+{
+	/**
+	 * Количество объектов в JSON.
+	 */
+	private static final int OBJECTS = 10_000;
+
+	/**
+	 * JSON.
+	 */
+	private String value;
+
+	/**
+	 * Класс счётчика обработанных мегабайт.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters
+	{
+		/**
+		 * Количество обработанных мегабайт.
+		 */
+		public double megabytes;
+
+		/**
+		 * Сбрасывает счётчик перед итерацией.
+		 */
+		@Setup(Level.Iteration)
+		public void reset()
+		{
+			this.megabytes = 0;
+		}
+	}
+
+	/**
+	 * Подготавливает JSON.
+	 */
+	@Setup
+	public void setUp()
+	{
+		StringBuilder builder = new StringBuilder("[");
+
+		for (int index = 0; index < OBJECTS; index++)
+		{
+			builder.append("""
+				{"user_id": %d, "full_name": "user name %d", "created_at": "2023-01-01T00:00:00Z",
+				 "account_settings": {"is_enabled": true, "max_sessions": 5, "tags": ["a_b", "c_d"]}},
+				""".formatted(index, index));
+		}
+
+		builder.append("{}]");
+		this.value = builder.toString();
+	}
+
+	/**
+	 * Изменение нотации имён на Camel Case.
+	 *
+	 * @param counters счётчик обработанных мегабайт.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	@Benchmark
+	public void renameJsonKeys(Counters counters) throws IOException
+	{
+		Notations.renameJsonKeys(new StringReader(this.value), Writer.nullWriter(), NotationType.CAMEL_CASE);
+		counters.megabytes += this.value.length() / 1_000_000.0;
+	}
+}
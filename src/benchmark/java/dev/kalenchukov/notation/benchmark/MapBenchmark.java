@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.NotationInsensitiveMap;
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.NotationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения поиска в отображении без учёта нотации с поиском по ключу в нотации Snake Case.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapBenchmark
+{
+	/**
+	 * Количество записей.
+	 */
+	@Param({"16", "1024"})
+	public int size;
+
+	/**
+	 * Нотация ключей при поиске.
+	 */
+	@Param({"UPPER_CASE", "KEBAB_CASE", "CAMEL_CASE"})
+	public NotationType notationType;
+
+	/**
+	 * Отображение с ключами в нотации Snake Case.
+	 */
+	private Map<String, Integer> snakeCaseMap;
+
+	/**
+	 * Отображение без учёта нотации.
+	 */
+	private NotationInsensitiveMap<Integer> notationInsensitiveMap;
+
+	/**
+	 * Ключи поиска.
+	 */
+	private String[] keys;
+
+	/**
+	 * Позиция следующего ключа поиска.
+	 */
+	private int position;
+
+	/**
+	 * Заполняет отображения.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.snakeCaseMap = new HashMap<>();
+		this.notationInsensitiveMap = new NotationInsensitiveMap<>();
+		this.keys = new String[this.size];
+
+		for (int index = 0; index < this.size; index++)
+		{
+			String key = "server_connection_pool_" + index + "_max_size";
+
+			this.snakeCaseMap.put(key, index);
+			this.notationInsensitiveMap.put(Notations.toCamelCase(key), index);
+			this.keys[index] = Notations.to(key, this.notationType);
+		}
+	}
+
+	/**
+	 * Поиск в {@link HashMap} после преобразования ключа в нотацию Snake Case.
+	 *
+	 * @return значение записи.
+	 */
+	@Benchmark
+	public Integer snakeCaseMap()
+	{
+		return this.snakeCaseMap.get(Notations.toSnakeCase(this.nextKey()));
+	}
+
+	/**
+	 * Поиск в {@link NotationInsensitiveMap}.
+	 *
+	 * @return значение записи.
+	 */
+	@Benchmark
+	public Integer notationInsensitiveMap()
+	{
+		return this.notationInsensitiveMap.get(this.nextKey());
+	}
+
+	/**
+	 * Возвращает следующий ключ поиска.
+	 *
+	 * @return ключ.
+	 */
+	private String nextKey()
+	{
+		final String key = this.keys[this.position];
+
+		this.position = (this.position + 1) % this.keys.length;
+
+		return key;
+	}
+}
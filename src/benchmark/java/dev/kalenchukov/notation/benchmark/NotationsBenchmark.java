@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.NotationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности методов проверки и преобразования нотаций
+ * класса {@link Notations}.
+ * <p>Составное слово собирается из фиксированного набора слов, поэтому входные данные
+ * одинаковы при каждом запуске.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotationsBenchmark
+{
+	/**
+	 * Слова, из которых собирается составное слово.
+	 */
+	private static final String[] WORDS = {
+		"user", "id", "account", "created", "at", "x", "request", "v2", "header", "value"
+	};
+
+	/**
+	 * Максимальная длина составного слова.
+	 */
+	@Param({"8", "64", "4096"})
+	public int length;
+
+	/**
+	 * Нотация составного слова.
+	 */
+	@Param({"SNAKE_CASE", "CAMEL_CASE", "TRAIN_CASE"})
+	public NotationType notationType;
+
+	/**
+	 * Составное слово.
+	 */
+	private String value;
+
+	/**
+	 * Подготавливает составное слово.
+	 * <p>Слова добавляются, пока длина в нотации Snake Case не превышает {@link #length}.</p>
+	 */
+	@Setup
+	public void setUp()
+	{
+		StringJoiner joiner = new StringJoiner("_");
+
+		for (int index = 0; ; index++)
+		{
+			String word = WORDS[index % WORDS.length];
+
+			if (index > 0 && joiner.length() + 1 + word.length() > this.length) {
+				break;
+			}
+
+			joiner.add(word);
+		}
+
+		this.value = Notations.to(joiner.toString(), this.notationType);
+	}
+
+	/**
+	 * Проверка методом {@link Notations#is(String, NotationType)}.
+	 *
+	 * @return {@code true}, если значение соответствует нотации {@link #notationType}.
+	 */
+	@Benchmark
+	public boolean is()
+	{
+		return Notations.is(this.value, this.notationType);
+	}
+
+	/**
+	 * Проверка методом {@link Notations#isUpperCase(String)}.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Upper Case.
+	 */
+	@Benchmark
+	public boolean isUpperCase()
+	{
+		return Notations.isUpperCase(this.value);
+	}
+
+	/**
+	 * Проверка методом {@link Notations#isKebabCase(String)}.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Kebab Case.
+	 */
+	@Benchmark
+	public boolean isKebabCase()
+	{
+		return Notations.isKebabCase(this.value);
+	}
+
+	/**
+	 * Проверка методом {@link Notations#isSnakeCase(String)}.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Snake Case.
+	 */
+	@Benchmark
+	public boolean isSnakeCase()
+	{
+		return Notations.isSnakeCase(this.value);
+	}
+
+	/**
+	 * Проверка методом {@link Notations#isCamelCase(String)}.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Camel Case.
+	 */
+	@Benchmark
+	public boolean isCamelCase()
+	{
+		return Notations.isCamelCase(this.value);
+	}
+
+	/**
+	 * Проверка методом {@link Notations#isPascalCase(String)}.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Pascal Case.
+	 */
+	@Benchmark
+	public boolean isPascalCase()
+	{
+		return Notations.isPascalCase(this.value);
+	}
+
+	/**
+	 * Проверка методом {@link Notations#isDotCase(String)}.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Dot Case.
+	 */
+	@Benchmark
+	public boolean isDotCase()
+	{
+		return Notations.isDotCase(this.value);
+	}
+
+	/**
+	 * Проверка методом {@link Notations#isTrainCase(String)}.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Train Case.
+	 */
+	@Benchmark
+	public boolean isTrainCase()
+	{
+		return Notations.isTrainCase(this.value);
+	}
+
+	/**
+	 * Преобразование методом {@link Notations#to(String, NotationType)}.
+	 *
+	 * @return строку в нотации {@link #notationType}.
+	 */
+	@Benchmark
+	public String to()
+	{
+		return Notations.to(this.value, this.notationType);
+	}
+
+	/**
+	 * Преобразование методом {@link Notations#toUpperCase(String)}.
+	 *
+	 * @return строку в нотации Upper Case.
+	 */
+	@Benchmark
+	public String toUpperCase()
+	{
+		return Notations.toUpperCase(this.value);
+	}
+
+	/**
+	 * Преобразование методом {@link Notations#toKebabCase(String)}.
+	 *
+	 * @return строку в нотации Kebab Case.
+	 */
+	@Benchmark
+	public String toKebabCase()
+	{
+		return Notations.toKebabCase(this.value);
+	}
+
+	/**
+	 * Преобразование методом {@link Notations#toSnakeCase(String)}.
+	 *
+	 * @return строку в нотации Snake Case.
+	 */
+	@Benchmark
+	public String toSnakeCase()
+	{
+		return Notations.toSnakeCase(this.value);
+	}
+
+	/**
+	 * Преобразование методом {@link Notations#toCamelCase(String)}.
+	 *
+	 * @return строку в нотации Camel Case.
+	 */
+	@Benchmark
+	public String toCamelCase()
+	{
+		return Notations.toCamelCase(this.value);
+	}
+
+	/**
+	 * Преобразование методом {@link Notations#toPascalCase(String)}.
+	 *
+	 * @return строку в нотации Pascal Case.
+	 */
+	@Benchmark
+	public String toPascalCase()
+	{
+		return Notations.toPascalCase(this.value);
+	}
+
+	/**
+	 * Преобразование методом {@link Notations#toDotCase(String)}.
+	 *
+	 * @return строку в нотации Dot Case.
+	 */
+	@Benchmark
+	public String toDotCase()
+	{
+		return Notations.toDotCase(this.value);
+	}
+
+	/**
+	 * Преобразование методом {@link Notations#toTrainCase(String)}.
+	 *
+	 * @return строку в нотации Train Case.
+	 */
+	@Benchmark
+	public String toTrainCase()
+	{
+		return Notations.toTrainCase(this.value);
+	}
+}
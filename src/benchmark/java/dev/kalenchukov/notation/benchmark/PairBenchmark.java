@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.NotationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения преобразования из известной нотации с общим преобразованием.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PairBenchmark
+{
+	/**
+	 * Исходная нотация.
+	 */
+	@Param({"UPPER_CASE", "SNAKE_CASE", "KEBAB_CASE", "CAMEL_CASE"})
+	public NotationType from;
+
+	/**
+	 * Нотация, в которую преобразуется строка.
+	 */
+	@Param({"SNAKE_CASE", "KEBAB_CASE", "CAMEL_CASE"})
+	public NotationType to;
+
+	/**
+	 * Составное слово в исходной нотации.
+	 */
+	private String value;
+
+	/**
+	 * Подготавливает составное слово.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.value = Notations.to("request_header_value_user_account_id_created_at_v2", this.from);
+	}
+
+	/**
+	 * Общее преобразование методом {@link Notations#to(CharSequence, NotationType)}.
+	 *
+	 * @return строку в нотации {@link #to}.
+	 */
+	@Benchmark
+	public String generic()
+	{
+		return Notations.to((CharSequence) this.value, this.to);
+	}
+
+	/**
+	 * Преобразование из известной нотации методом
+	 * {@link Notations#convert(CharSequence, NotationType, NotationType)}.
+	 *
+	 * @return строку в нотации {@link #to}.
+	 */
+	@Benchmark
+	public String pair()
+	{
+		return Notations.convert(this.value, this.from, this.to);
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.NotationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения масштабируемости параллельного преобразования нотаций
+ * в зависимости от количества потоков.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelBenchmark
+{
+	/**
+	 * Количество потоков.
+	 */
+	@Param({"1", "2", "4", "8"})
+	public int threads;
+
+	/**
+	 * Количество строк.
+	 */
+	@Param({"1000000"})
+	public int size;
+
+	/**
+	 * Строки.
+	 */
+	private String[] values;
+
+	/**
+	 * Пул потоков.
+	 */
+	private ForkJoinPool pool;
+
+	/**
+	 * Подготавливает строки и пул потоков.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.values = new String[this.size];
+
+		for (int index = 0; index < this.size; index++) {
+			this.values[index] = "userAccount" + index + "CreatedAt";
+		}
+
+		this.pool = new ForkJoinPool(this.threads);
+	}
+
+	/**
+	 * Останавливает пул потоков.
+	 */
+	@TearDown
+	public void tearDown()
+	{
+		this.pool.shutdown();
+	}
+
+	/**
+	 * Параллельное преобразование в нотацию Snake Case.
+	 *
+	 * @return строки в нотации Snake Case.
+	 */
+	@Benchmark
+	public String[] parallelTo()
+	{
+		return Notations.parallelTo(this.values, NotationType.SNAKE_CASE, this.pool);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.Regexp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Класс измерения производительности проверки нотации с помощью {@link Regexp}.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegexpBenchmark
+{
+	/**
+	 * Проверяемое значение.
+	 */
+	@Param({"hello_world_matrix", "helloWorldMatrix"})
+	public String value;
+
+	/**
+	 * Получение шаблона регулярного выражения методом {@link Regexp#getPattern()}.
+	 *
+	 * @return шаблон регулярного выражения нотации Snake Case.
+	 */
+	@Benchmark
+	public String getPattern()
+	{
+		return Regexp.SNAKE_CASE.getPattern();
+	}
+
+	/**
+	 * Проверка с компиляцией регулярного выражения при каждом вызове.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Snake Case.
+	 */
+	@Benchmark
+	public boolean compileEachTime()
+	{
+		return Pattern.compile(Regexp.SNAKE_CASE.getPattern(), Pattern.UNICODE_CASE)
+					  .matcher(this.value)
+					  .matches();
+	}
+
+	/**
+	 * Проверка с использованием скомпилированного регулярного выражения.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Snake Case.
+	 */
+	@Benchmark
+	public boolean compiledPattern()
+	{
+		return Regexp.SNAKE_CASE.getCompiledPattern()
+								.matcher(this.value)
+								.matches();
+	}
+
+	/**
+	 * Проверка методом {@link Notations#isSnakeCase(String)}.
+	 *
+	 * @return {@code true}, если значение соответствует нотации Snake Case.
+	 */
+	@Benchmark
+	public boolean isSnakeCase()
+	{
+		return Notations.isSnakeCase(this.value);
+	}
+}
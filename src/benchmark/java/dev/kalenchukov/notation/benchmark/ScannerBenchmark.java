@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.NotationScanner;
+import dev.kalenchukov.notation.resources.Regexp;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Класс сравнения поиска составных слов в тексте совместным автоматом с поиском регулярными выражениями.
+ * <p>Счётчик {@code megabytes} показывает скорость обработки в мегабайтах текста в секунду.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ScannerBenchmark
+{
+	/**
+	 * Количество строк текста.
+	 */
+	private static final int LINES = 20_000;
+
+	/**
+	 * Регулярное выражение лексемы.
+	 */
+	private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}_.-]+");
+
+	/**
+	 * Текст.
+	 */
+	private String value;
+
+	/**
+	 * Класс счётчика обработанных мегабайт.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters
+	{
+		/**
+		 * Количество обработанных мегабайт.
+		 */
+		public double megabytes;
+
+		/**
+		 * Сбрасывает счётчик перед итерацией.
+		 */
+		@Setup(Level.Iteration)
+		public void reset()
+		{
+			this.megabytes = 0;
+		}
+	}
+
+	/**
+	 * Подготавливает текст, похожий на исходный код и журналы.
+	 */
+	@Setup
+	public void setUp()
+	{
+		StringBuilder builder = new StringBuilder();
+
+		for (int index = 0; index < LINES; index++)
+		{
+			builder.append("""
+				2023-07-08 INFO request_id=%d userAccountId=%d MAX_POOL_SIZE reached by http-server.worker.
+				""".formatted(index, index));
+		}
+
+		this.value = builder.toString();
+	}
+
+	/**
+	 * Поиск методом {@link NotationScanner#scan(java.io.Reader, NotationScanner.MatchHandler)}.
+	 *
+	 * @param counters счётчик обработанных мегабайт.
+	 * @return сумма масок найденных составных слов.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	@Benchmark
+	public long scanner(Counters counters) throws IOException
+	{
+		final long[] total = new long[1];
+
+		new NotationScanner().scan(new StringReader(this.value), (offset, length, mask) -> total[0] += mask);
+		counters.megabytes += this.value.length() / 1_000_000.0;
+
+		return total[0];
+	}
+
+	/**
+	 * Поиск лексем регулярным выражением и проверка каждой лексемы регулярным выражением каждой нотации.
+	 *
+	 * @param counters счётчик обработанных мегабайт.
+	 * @return сумма масок найденных составных слов.
+	 */
+	@Benchmark
+	public long regexp(Counters counters)
+	{
+		final Regexp[] regexps = Regexp.values();
+		final Matcher matcher = TOKEN.matcher(this.value);
+		long total = 0;
+
+		while (matcher.find())
+		{
+			int mask = 0;
+
+			for (Regexp regexp : regexps)
+			{
+				if (regexp.getCompiledPattern().matcher(matcher.group()).matches()) {
+					mask |= 1 << regexp.ordinal();
+				}
+			}
+
+			total += mask;
+		}
+
+		counters.megabytes += this.value.length() / 1_000_000.0;
+
+		return total;
+	}
+}
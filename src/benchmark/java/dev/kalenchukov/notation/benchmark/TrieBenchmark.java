@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.NotationTrie;
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.NotationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения поиска по префиксу в {@link NotationTrie}.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrieBenchmark
+{
+	/**
+	 * Слова составных слов.
+	 */
+	private static final String[] WORDS = {
+		"user", "account", "id", "name", "created", "updated", "at", "by", "order", "item", "price", "total",
+		"customer", "address", "city", "country", "code", "status", "type", "value", "count", "max", "min", "size"
+	};
+
+	/**
+	 * Количество составных слов.
+	 */
+	@Param({"100000", "1000000"})
+	public int size;
+
+	/**
+	 * Составные слова.
+	 */
+	private List<String> values;
+
+	/**
+	 * Дерево составных слов.
+	 */
+	private NotationTrie trie;
+
+	/**
+	 * Префиксы поиска в разных нотациях.
+	 */
+	private String[] prefixes;
+
+	/**
+	 * Позиция следующего префикса.
+	 */
+	private int position;
+
+	/**
+	 * Подготавливает составные слова и дерево.
+	 */
+	@Setup
+	public void setUp()
+	{
+		NotationType[] notationTypes = NotationType.values();
+		Random random = new Random(23);
+
+		this.values = new ArrayList<>(this.size);
+
+		for (int index = 0; index < this.size; index++)
+		{
+			StringBuilder value = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+
+			for (int count = 1 + random.nextInt(4); count > 0; count--) {
+				value.append('_').append(WORDS[random.nextInt(WORDS.length)]);
+			}
+
+			value.append('_').append(index);
+
+			this.values.add(Notations.to(value, notationTypes[random.nextInt(notationTypes.length)]));
+		}
+
+		this.trie = new NotationTrie(this.values);
+		this.prefixes = new String[] {"user_acc", "userAcc", "ORDER-ITEM-PR", "customer.address.c", "maxSizeCountV"};
+	}
+
+	/**
+	 * Поиск по префиксу.
+	 *
+	 * @return количество найденных составных слов.
+	 */
+	@Benchmark
+	public int find()
+	{
+		final String prefix = this.prefixes[this.position];
+
+		this.position = (this.position + 1) % this.prefixes.length;
+
+		return this.trie.find(prefix).size();
+	}
+
+	/**
+	 * Построение дерева.
+	 *
+	 * @return количество узлов.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public int build()
+	{
+		return new NotationTrie(this.values).getNodeCount();
+	}
+}
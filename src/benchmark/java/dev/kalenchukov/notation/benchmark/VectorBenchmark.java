@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation.benchmark;
+
+import dev.kalenchukov.notation.Notations;
+import dev.kalenchukov.notation.resources.NotationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения поиска границ слов векторными операциями с посимвольным поиском.
+ * <p>Оба метода выполняют одно и то же преобразование и отличаются только параметрами JVM:
+ * векторные операции включаются модулем {@code jdk.incubator.vector}. Векторная реализация
+ * находится в многоверсионном архиве для Java 21 и новее, поэтому сравнение имеет смысл
+ * при запуске на Java 21 и новее.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VectorBenchmark
+{
+	/**
+	 * Длина составного слова.
+	 */
+	@Param({"64", "4096"})
+	public int length;
+
+	/**
+	 * Длина слова.
+	 */
+	@Param({"4", "32"})
+	public int wordLength;
+
+	/**
+	 * Символы составного слова.
+	 */
+	private char[] source;
+
+	/**
+	 * Буфер результата.
+	 */
+	private char[] destination;
+
+	/**
+	 * Подготавливает составное слово в нотации Camel Case.
+	 */
+	@Setup
+	public void setUp()
+	{
+		String word = "W" + "o".repeat(this.wordLength - 1);
+
+		this.source = ("w" + word.repeat(this.length / this.wordLength)).substring(0, this.length).toCharArray();
+		this.destination = new char[this.length * 2];
+	}
+
+	/**
+	 * Посимвольный поиск границ слов.
+	 *
+	 * @return количество записанных символов.
+	 */
+	@Benchmark
+	@Fork(1)
+	public int scalar()
+	{
+		return Notations.convert(this.source, 0, this.source.length, NotationType.SNAKE_CASE, this.destination, 0);
+	}
+
+	/**
+	 * Поиск границ слов векторными операциями.
+	 *
+	 * @return количество записанных символов.
+	 */
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+	public int vector()
+	{
+		return Notations.convert(this.source, 0, this.source.length, NotationType.SNAKE_CASE, this.destination, 0);
+	}
+}
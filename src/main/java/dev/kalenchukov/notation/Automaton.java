@@ -0,0 +1,558 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import dev.kalenchukov.notation.resources.Regexp;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+
+/**
+ * Класс детерминированных конечных автоматов проверки нотаций.
+ * <p>Для каждого {@link NotationType} задана таблица переходов «состояние × класс символа»,
+ * которая проверяет все требования соответствующей константы {@link Regexp}
+ * за один проход по строке без возвратов и без создания объектов.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class Automaton
+{
+	/**
+	 * Класс символа: строчная латинская буква.
+	 */
+	static final byte LOWER = 0;
+
+	/**
+	 * Класс символа: прописная латинская буква.
+	 */
+	static final byte UPPER = 1;
+
+	/**
+	 * Класс символа: цифра.
+	 */
+	static final byte DIGIT = 2;
+
+	/**
+	 * Класс символа: символ нижнего подчёркивания.
+	 */
+	static final byte UNDERSCORE = 3;
+
+	/**
+	 * Класс символа: символ дефиса.
+	 */
+	static final byte HYPHEN = 4;
+
+	/**
+	 * Класс символа: символ точки.
+	 */
+	static final byte DOT = 5;
+
+	/**
+	 * Класс символа: любой другой символ.
+	 */
+	static final byte OTHER = 6;
+
+	/**
+	 * Количество классов символов.
+	 */
+	static final int CLASSES = 7;
+
+	/**
+	 * Состояние: начало строки.
+	 */
+	static final byte START = 0;
+
+	/**
+	 * Состояние: внутри слова.
+	 * <p>Единственное допускающее состояние.</p>
+	 */
+	static final byte WORD = 1;
+
+	/**
+	 * Состояние: после разделителя слов.
+	 */
+	static final byte SEPARATOR = 2;
+
+	/**
+	 * Состояние: строка не соответствует нотации.
+	 */
+	static final byte REJECT = 3;
+
+	/**
+	 * Количество состояний.
+	 */
+	static final int STATES = 4;
+
+	/**
+	 * Типы нотаций.
+	 */
+	@NotNull
+	static final NotationType @NotNull [] NOTATION_TYPES = NotationType.values();
+
+	/**
+	 * Количество бит, которыми кодируется состояние одного автомата в совместном автомате.
+	 */
+	private static final int STATE_BITS = 2;
+
+	/**
+	 * Классы символов ASCII.
+	 */
+	@NotNull
+	private static final byte @NotNull [] CHAR_CLASSES = new byte[128];
+
+	/**
+	 * Таблицы переходов, индексированные порядковым номером {@link NotationType}.
+	 */
+	@NotNull
+	private static final byte @NotNull [] @NotNull [] TRANSITIONS = new byte[NOTATION_TYPES.length][];
+
+	/**
+	 * Таблица переходов совместного автомата всех нотаций.
+	 * <p>Состояние совместного автомата — это набор состояний автоматов каждой нотации.
+	 * Достижимых наборов немного, поэтому они пронумерованы заранее.</p>
+	 */
+	private static final int @NotNull [] COMBINED_TRANSITIONS;
+
+	/**
+	 * Битовые маски нотаций, допускающих строку в каждом состоянии совместного автомата.
+	 * <p>Бит с номером {@link NotationType#ordinal()} установлен, если нотация допускает строку.</p>
+	 */
+	private static final int @NotNull [] COMBINED_MATCHES;
+
+	/**
+	 * Состояние совместного автомата, в котором строку не допускает ни одна нотация.
+	 */
+	private static final int COMBINED_REJECT;
+
+	static
+	{
+		for (int index = 0; index < CHAR_CLASSES.length; index++)
+		{
+			final char symbol = (char) index;
+
+			if (symbol >= 'a' && symbol <= 'z') {
+				CHAR_CLASSES[index] = LOWER;
+			}
+			else if (symbol >= 'A' && symbol <= 'Z') {
+				CHAR_CLASSES[index] = UPPER;
+			}
+			else if (symbol >= '0' && symbol <= '9') {
+				CHAR_CLASSES[index] = DIGIT;
+			}
+			else if (symbol == '_') {
+				CHAR_CLASSES[index] = UNDERSCORE;
+			}
+			else if (symbol == '-') {
+				CHAR_CLASSES[index] = HYPHEN;
+			}
+			else if (symbol == '.') {
+				CHAR_CLASSES[index] = DOT;
+			}
+			else {
+				CHAR_CLASSES[index] = OTHER;
+			}
+		}
+
+		for (NotationType notationType : NOTATION_TYPES) {
+			TRANSITIONS[notationType.ordinal()] = Automaton.createTransitions(notationType);
+		}
+
+		final int[] indexes = new int[1 << (STATE_BITS * NOTATION_TYPES.length)];
+		final int[] keys = new int[indexes.length];
+		final int[] transitions = new int[indexes.length * CLASSES];
+		Arrays.fill(indexes, -1);
+
+		int count = 1;
+		indexes[0] = 0;
+
+		for (int state = 0; state < count; state++)
+		{
+			for (int charClass = 0; charClass < CLASSES; charClass++)
+			{
+				final int key = Automaton.nextCombinedKey(keys[state], charClass);
+
+				if (indexes[key] < 0)
+				{
+					indexes[key] = count;
+					keys[count++] = key;
+				}
+
+				transitions[state * CLASSES + charClass] = indexes[key];
+			}
+		}
+
+		COMBINED_TRANSITIONS = Arrays.copyOf(transitions, count * CLASSES);
+		COMBINED_MATCHES = new int[count];
+
+		int rejectKey = 0;
+
+		for (NotationType notationType : NOTATION_TYPES) {
+			rejectKey |= REJECT << (STATE_BITS * notationType.ordinal());
+		}
+
+		COMBINED_REJECT = indexes[rejectKey];
+
+		for (int state = 0; state < count; state++)
+		{
+			for (NotationType notationType : NOTATION_TYPES)
+			{
+				if (Automaton.getState(keys[state], notationType) == WORD) {
+					COMBINED_MATCHES[state] |= 1 << notationType.ordinal();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Конструктор для {@code Automaton}.
+	 */
+	private Automaton() {}
+
+	/**
+	 * Проверяет соответствие строки указанной нотации.
+	 *
+	 * @param value строка.
+	 * @param notationType тип нотации.
+	 * @return {@code true}, если {@code value} соответствует {@code notationType}, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 */
+	static boolean matches(@NotNull final CharSequence value, @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+
+		if (value instanceof CharBuffer buffer && buffer.hasArray())
+		{
+			final int start = buffer.arrayOffset() + buffer.position();
+
+			return Automaton.matches(buffer.array(), start, start + buffer.remaining(), notationType);
+		}
+
+		final byte[] transitions = TRANSITIONS[notationType.ordinal()];
+		final int length = value.length();
+		int state = START;
+
+		for (int index = 0; index < length; index++)
+		{
+			state = transitions[state * CLASSES + Automaton.getCharClass(value.charAt(index))];
+
+			if (state == REJECT) {
+				return false;
+			}
+		}
+
+		return state == WORD;
+	}
+
+	/**
+	 * Проверяет соответствие символов массива указанной нотации.
+	 *
+	 * @param value массив символов.
+	 * @param start начальная позиция в {@code value} включительно.
+	 * @param end конечная позиция в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @return {@code true}, если символы соответствуют {@code notationType}, иначе {@code false}.
+	 */
+	static boolean matches(final char @NotNull [] value,
+						   final int start,
+						   final int end,
+						   @NotNull final NotationType notationType)
+	{
+		final byte[] transitions = TRANSITIONS[notationType.ordinal()];
+		int state = START;
+
+		for (int index = start; index < end; index++)
+		{
+			state = transitions[state * CLASSES + Automaton.getCharClass(value[index])];
+
+			if (state == REJECT) {
+				return false;
+			}
+		}
+
+		return state == WORD;
+	}
+
+	/**
+	 * Возвращает битовую маску всех нотаций, которым соответствует строка.
+	 * <p>Все автоматы выполняются совместно за один проход по строке.</p>
+	 *
+	 * @param value строка.
+	 * @return битовую маску, в которой бит с номером {@link NotationType#ordinal()} установлен,
+	 * если {@code value} соответствует нотации.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	static int detect(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		if (value instanceof CharBuffer buffer && buffer.hasArray())
+		{
+			final int start = buffer.arrayOffset() + buffer.position();
+
+			return Automaton.detect(buffer.array(), start, start + buffer.remaining());
+		}
+
+		final int length = value.length();
+		int state = 0;
+
+		for (int index = 0; index < length; index++)
+		{
+			state = COMBINED_TRANSITIONS[state * CLASSES + Automaton.getCharClass(value.charAt(index))];
+
+			if (state == COMBINED_REJECT) {
+				return 0;
+			}
+		}
+
+		return COMBINED_MATCHES[state];
+	}
+
+	/**
+	 * Возвращает битовую маску всех нотаций, которым соответствуют символы массива.
+	 *
+	 * @param value массив символов.
+	 * @param start начальная позиция в {@code value} включительно.
+	 * @param end конечная позиция в {@code value} не включительно.
+	 * @return битовую маску, в которой бит с номером {@link NotationType#ordinal()} установлен,
+	 * если символы соответствуют нотации.
+	 */
+	static int detect(final char @NotNull [] value, final int start, final int end)
+	{
+		int state = 0;
+
+		for (int index = start; index < end; index++)
+		{
+			state = COMBINED_TRANSITIONS[state * CLASSES + Automaton.getCharClass(value[index])];
+
+			if (state == COMBINED_REJECT) {
+				return 0;
+			}
+		}
+
+		return COMBINED_MATCHES[state];
+	}
+
+	/**
+	 * Возвращает следующее состояние совместного автомата.
+	 * <p>Начальное состояние совместного автомата равно {@code 0}. Состояние, в котором строка
+	 * не соответствует ни одной нотации, не изменяется при следующих переходах.</p>
+	 *
+	 * @param state текущее состояние совместного автомата.
+	 * @param charClass класс символа.
+	 * @return следующее состояние.
+	 */
+	static int nextCombinedState(final int state, final int charClass)
+	{
+		return COMBINED_TRANSITIONS[state * CLASSES + charClass];
+	}
+
+	/**
+	 * Возвращает битовую маску нотаций, которым соответствует строка в состоянии совместного автомата.
+	 *
+	 * @param state состояние совместного автомата.
+	 * @return битовую маску, в которой бит с номером {@link NotationType#ordinal()} установлен,
+	 * если строка соответствует нотации.
+	 */
+	static int getCombinedMatches(final int state)
+	{
+		return COMBINED_MATCHES[state];
+	}
+
+	/**
+	 * Возвращает набор нотаций, соответствующий битовой маске.
+	 *
+	 * @param mask битовая маска, в которой бит с номером {@link NotationType#ordinal()} обозначает нотацию.
+	 * @return набор нотаций.
+	 */
+	@NotNull
+	static EnumSet<@NotNull NotationType> toNotationTypes(final int mask)
+	{
+		final EnumSet<NotationType> notationTypes = EnumSet.noneOf(NotationType.class);
+
+		for (NotationType notationType : NOTATION_TYPES)
+		{
+			if ((mask & (1 << notationType.ordinal())) != 0) {
+				notationTypes.add(notationType);
+			}
+		}
+
+		return notationTypes;
+	}
+
+	/**
+	 * Возвращает класс символа.
+	 *
+	 * @param symbol символ.
+	 * @return класс символа.
+	 */
+	static int getCharClass(final char symbol)
+	{
+		return symbol < CHAR_CLASSES.length ? CHAR_CLASSES[symbol] : OTHER;
+	}
+
+	/**
+	 * Возвращает таблицу переходов указанной нотации.
+	 *
+	 * @param notationType тип нотации.
+	 * @return таблицу переходов, в которой строки соответствуют состояниям, а столбцы классам символов.
+	 */
+	static byte @NotNull [] getTransitions(@NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(notationType);
+
+		return TRANSITIONS[notationType.ordinal()];
+	}
+
+	/**
+	 * Возвращает состояние автомата нотации из ключа состояния совместного автомата.
+	 *
+	 * @param key ключ состояния совместного автомата.
+	 * @param notationType тип нотации.
+	 * @return состояние автомата нотации.
+	 */
+	private static int getState(final int key, @NotNull final NotationType notationType)
+	{
+		return (key >>> (STATE_BITS * notationType.ordinal())) & ((1 << STATE_BITS) - 1);
+	}
+
+	/**
+	 * Возвращает ключ следующего состояния совместного автомата.
+	 *
+	 * @param key ключ текущего состояния совместного автомата.
+	 * @param charClass класс символа.
+	 * @return ключ следующего состояния.
+	 */
+	private static int nextCombinedKey(final int key, final int charClass)
+	{
+		int nextKey = 0;
+
+		for (NotationType notationType : NOTATION_TYPES)
+		{
+			final int state = Automaton.getState(key, notationType);
+			final int nextState = TRANSITIONS[notationType.ordinal()][state * CLASSES + charClass];
+
+			nextKey |= nextState << (STATE_BITS * notationType.ordinal());
+		}
+
+		return nextKey;
+	}
+
+	/**
+	 * Создаёт таблицу переходов указанной нотации.
+	 *
+	 * @param notationType тип нотации.
+	 * @return таблицу переходов.
+	 */
+	private static byte @NotNull [] createTransitions(@NotNull final NotationType notationType)
+	{
+		return switch (notationType)
+		{
+			case UPPER_CASE -> Automaton.createSeparatedTransitions(UPPER, UNDERSCORE);
+			case KEBAB_CASE -> Automaton.createSeparatedTransitions(LOWER, HYPHEN);
+			case SNAKE_CASE -> Automaton.createSeparatedTransitions(LOWER, UNDERSCORE);
+			case DOT_CASE -> Automaton.createSeparatedTransitions(LOWER, DOT);
+			case TRAIN_CASE -> Automaton.createSeparatedTransitions(UPPER, HYPHEN);
+			case CAMEL_CASE -> Automaton.createJoinedTransitions(LOWER);
+			case PASCAL_CASE -> Automaton.createJoinedTransitions(UPPER);
+		};
+	}
+
+	/**
+	 * Создаёт таблицу переходов нотации с разделителем слов.
+	 * <p>Строка начинается с буквы {@code letter}, слова состоят из букв {@code letter} и цифр
+	 * и разделяются одиночным символом класса {@code separator}.</p>
+	 *
+	 * @param letter класс допустимых букв.
+	 * @param separator класс разделителя слов.
+	 * @return таблицу переходов.
+	 */
+	private static byte @NotNull [] createSeparatedTransitions(final byte letter, final byte separator)
+	{
+		final byte[] transitions = Automaton.createRejectingTransitions();
+
+		Automaton.setTransition(transitions, START, letter, WORD);
+		Automaton.setTransition(transitions, WORD, letter, WORD);
+		Automaton.setTransition(transitions, WORD, DIGIT, WORD);
+		Automaton.setTransition(transitions, WORD, separator, SEPARATOR);
+		Automaton.setTransition(transitions, SEPARATOR, letter, WORD);
+		Automaton.setTransition(transitions, SEPARATOR, DIGIT, WORD);
+
+		return transitions;
+	}
+
+	/**
+	 * Создаёт таблицу переходов нотации со слитным написанием слов.
+	 * <p>Строка начинается с буквы {@code first}, далее допускаются любые латинские буквы и цифры.</p>
+	 *
+	 * @param first класс первой буквы.
+	 * @return таблицу переходов.
+	 */
+	private static byte @NotNull [] createJoinedTransitions(final byte first)
+	{
+		final byte[] transitions = Automaton.createRejectingTransitions();
+
+		Automaton.setTransition(transitions, START, first, WORD);
+		Automaton.setTransition(transitions, WORD, LOWER, WORD);
+		Automaton.setTransition(transitions, WORD, UPPER, WORD);
+		Automaton.setTransition(transitions, WORD, DIGIT, WORD);
+
+		return transitions;
+	}
+
+	/**
+	 * Создаёт таблицу переходов, в которой все переходы ведут в состояние {@link #REJECT}.
+	 *
+	 * @return таблицу переходов.
+	 */
+	private static byte @NotNull [] createRejectingTransitions()
+	{
+		final byte[] transitions = new byte[STATES * CLASSES];
+		Arrays.fill(transitions, REJECT);
+
+		return transitions;
+	}
+
+	/**
+	 * Устанавливает переход в таблице переходов.
+	 *
+	 * @param transitions таблица переходов.
+	 * @param state исходное состояние.
+	 * @param charClass класс символа.
+	 * @param target целевое состояние.
+	 */
+	private static void setTransition(final byte @NotNull [] transitions,
+									  final byte state,
+									  final byte charClass,
+									  final byte target)
+	{
+		transitions[state * CLASSES + charClass] = target;
+	}
+}
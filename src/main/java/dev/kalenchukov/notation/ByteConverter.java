@@ -0,0 +1,452 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Класс проверки и преобразования составных слов в байтах UTF-8 без декодирования.
+ * <p>Составное слово из байтов ASCII проверяется и преобразуется побайтно: байт ASCII совпадает
+ * с кодом символа, а регистр латинской буквы изменяется одним битом. Байт больше {@code 0x7F}
+ * является частью символа не из ASCII. Такой символ не соответствует ни одной нотации,
+ * а при преобразовании составное слово декодируется из UTF-8 и преобразуется общим способом
+ * {@link Converter}. Некорректные последовательности UTF-8 при этом заменяются символом {@code U+FFFD}.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class ByteConverter
+{
+	/**
+	 * Разница между кодами строчной и прописной латинской буквы.
+	 */
+	private static final int CASE_BIT = 0x20;
+
+	/**
+	 * Признак наличия байтов не из ASCII.
+	 */
+	static final int NON_ASCII = -1;
+
+	/**
+	 * Конструктор для {@code ByteConverter}.
+	 */
+	private ByteConverter() {}
+
+	/**
+	 * Проверяет соответствие байтов UTF-8 указанной нотации.
+	 *
+	 * @param value буфер байтов.
+	 * @param start начальная позиция в {@code value} включительно.
+	 * @param end конечная позиция в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @return {@code true}, если байты соответствуют {@code notationType}, иначе {@code false}.
+	 */
+	static boolean matches(@NotNull final ByteBuffer value,
+						   final int start,
+						   final int end,
+						   @NotNull final NotationType notationType)
+	{
+		if (value.hasArray()) {
+			return ByteConverter.matches(value.array(), value.arrayOffset() + start, value.arrayOffset() + end, notationType);
+		}
+
+		final byte[] transitions = Automaton.getTransitions(notationType);
+		int state = Automaton.START;
+
+		for (int index = start; index < end; index++)
+		{
+			state = transitions[state * Automaton.CLASSES + ByteConverter.getCharClass(value.get(index))];
+
+			if (state == Automaton.REJECT) {
+				return false;
+			}
+		}
+
+		return state == Automaton.WORD;
+	}
+
+	/**
+	 * Проверяет соответствие байтов UTF-8 массива указанной нотации.
+	 *
+	 * @param value массив байтов.
+	 * @param start начальная позиция в {@code value} включительно.
+	 * @param end конечная позиция в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @return {@code true}, если байты соответствуют {@code notationType}, иначе {@code false}.
+	 */
+	static boolean matches(final byte @NotNull [] value,
+						   final int start,
+						   final int end,
+						   @NotNull final NotationType notationType)
+	{
+		final byte[] transitions = Automaton.getTransitions(notationType);
+		int state = Automaton.START;
+
+		for (int index = start; index < end; index++)
+		{
+			state = transitions[state * Automaton.CLASSES + ByteConverter.getCharClass(value[index])];
+
+			if (state == Automaton.REJECT) {
+				return false;
+			}
+		}
+
+		return state == Automaton.WORD;
+	}
+
+	/**
+	 * Записывает составное слово из байтов UTF-8 в указанной нотации в буфер.
+	 * <p>Байты читаются из {@code source} и записываются в {@code destination} по абсолютным позициям,
+	 * поэтому буферы вне кучи, в том числе отображённые в память файлы, не копируются в массивы.
+	 * Если результат не помещается в буфер, ничего не записывается.</p>
+	 *
+	 * @param source буфер байтов.
+	 * @param start начальная позиция составного слова в {@code source} включительно.
+	 * @param end конечная позиция составного слова в {@code source} не включительно.
+	 * @param notationType тип нотации.
+	 * @param destination буфер, в который записывается результат.
+	 * @param offset позиция в {@code destination}, с которой записывается результат.
+	 * @param limit позиция в {@code destination}, до которой можно записывать результат.
+	 * @return количество записанных байтов или {@code ~n}, если для результата необходимо {@code n} байтов,
+	 * а помещается меньше.
+	 */
+	static int convert(@NotNull final ByteBuffer source,
+					   final int start,
+					   final int end,
+					   @NotNull final NotationType notationType,
+					   @NotNull final ByteBuffer destination,
+					   final int offset,
+					   final int limit)
+	{
+		if (source.hasArray() && destination.hasArray())
+		{
+			return ByteConverter.convert(
+				source.array(), source.arrayOffset() + start, source.arrayOffset() + end, notationType,
+				destination.array(), destination.arrayOffset() + offset, destination.arrayOffset() + limit
+			);
+		}
+
+		final int length = ByteConverter.measure(source, start, end, notationType);
+
+		if (length == NON_ASCII)
+		{
+			final byte[] encoded = ByteConverter.convertDecoded(source, start, end, notationType);
+
+			if (encoded.length > limit - offset) {
+				return ~encoded.length;
+			}
+
+			destination.put(offset, encoded);
+
+			return encoded.length;
+		}
+
+		if (length > limit - offset) {
+			return ~length;
+		}
+
+		final char separator = Converter.getSeparator(notationType);
+		int position = offset;
+		boolean wordStart = false;
+		char previous = Segmenter.NO_CHAR;
+
+		for (int index = start; index < end; index++)
+		{
+			final char symbol = (char) source.get(index);
+			final char next = index + 1 < end ? (char) source.get(index + 1) : Segmenter.NO_CHAR;
+			final int boundary = Segmenter.getBoundary(previous, symbol, next);
+			previous = symbol;
+
+			if (boundary != Segmenter.NONE)
+			{
+				if (separator != Converter.NO_SEPARATOR) {
+					destination.put(position++, (byte) separator);
+				}
+
+				wordStart = true;
+
+				if (boundary == Segmenter.SEPARATOR) {
+					continue;
+				}
+			}
+
+			destination.put(position++, ByteConverter.toCase(
+				symbol, Converter.isUpperCase(notationType, wordStart, index == start)
+			));
+			wordStart = false;
+		}
+
+		return position - offset;
+	}
+
+	/**
+	 * Записывает составное слово из байтов UTF-8 массива в указанной нотации в массив.
+	 * <p>Если результат не помещается в массив, ничего не записывается.</p>
+	 *
+	 * @param source массив байтов.
+	 * @param start начальная позиция составного слова в {@code source} включительно.
+	 * @param end конечная позиция составного слова в {@code source} не включительно.
+	 * @param notationType тип нотации.
+	 * @param destination массив, в который записывается результат.
+	 * @param offset позиция в {@code destination}, с которой записывается результат.
+	 * @param limit позиция в {@code destination}, до которой можно записывать результат.
+	 * @return количество записанных байтов или {@code ~n}, если для результата необходимо {@code n} байтов,
+	 * а помещается меньше.
+	 */
+	static int convert(final byte @NotNull [] source,
+					   final int start,
+					   final int end,
+					   @NotNull final NotationType notationType,
+					   final byte @NotNull [] destination,
+					   final int offset,
+					   final int limit)
+	{
+		final int length = ByteConverter.measure(source, start, end, notationType);
+
+		if (length == NON_ASCII)
+		{
+			final byte[] encoded = ByteConverter.convertDecoded(source, start, end, notationType);
+
+			if (encoded.length > limit - offset) {
+				return ~encoded.length;
+			}
+
+			System.arraycopy(encoded, 0, destination, offset, encoded.length);
+
+			return encoded.length;
+		}
+
+		if (length > limit - offset) {
+			return ~length;
+		}
+
+		final char separator = Converter.getSeparator(notationType);
+		int position = offset;
+		boolean wordStart = false;
+		char previous = Segmenter.NO_CHAR;
+
+		for (int index = start; index < end; index++)
+		{
+			final char symbol = (char) source[index];
+			final char next = index + 1 < end ? (char) source[index + 1] : Segmenter.NO_CHAR;
+			final int boundary = Segmenter.getBoundary(previous, symbol, next);
+			previous = symbol;
+
+			if (boundary != Segmenter.NONE)
+			{
+				if (separator != Converter.NO_SEPARATOR) {
+					destination[position++] = (byte) separator;
+				}
+
+				wordStart = true;
+
+				if (boundary == Segmenter.SEPARATOR) {
+					continue;
+				}
+			}
+
+			destination[position++] = ByteConverter.toCase(
+				symbol, Converter.isUpperCase(notationType, wordStart, index == start)
+			);
+			wordStart = false;
+		}
+
+		return position - offset;
+	}
+
+	/**
+	 * Возвращает длину составного слова из байтов ASCII в указанной нотации.
+	 *
+	 * @param value массив байтов.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @return количество байтов составного слова в указанной нотации
+	 * или {@link #NON_ASCII}, если встретился байт не из ASCII.
+	 */
+	static int measure(final byte @NotNull [] value,
+					   final int start,
+					   final int end,
+					   @NotNull final NotationType notationType)
+	{
+		final boolean separated = Converter.getSeparator(notationType) != Converter.NO_SEPARATOR;
+		int length = end - start;
+		char previous = Segmenter.NO_CHAR;
+
+		for (int index = start; index < end; index++)
+		{
+			final byte symbol = value[index];
+
+			if (symbol < 0) {
+				return NON_ASCII;
+			}
+
+			final char next = index + 1 < end ? (char) (value[index + 1] & 0xFF) : Segmenter.NO_CHAR;
+
+			switch (Segmenter.getBoundary(previous, (char) symbol, next))
+			{
+				case Segmenter.SEPARATOR -> {
+					if (!separated) {
+						length--;
+					}
+				}
+				case Segmenter.SPLIT -> {
+					if (separated) {
+						length++;
+					}
+				}
+				default -> {}
+			}
+
+			previous = (char) symbol;
+		}
+
+		return length;
+	}
+
+	/**
+	 * Возвращает длину составного слова из байтов ASCII буфера в указанной нотации.
+	 *
+	 * @param value буфер байтов.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @return количество байтов составного слова в указанной нотации
+	 * или {@link #NON_ASCII}, если встретился байт не из ASCII.
+	 */
+	private static int measure(@NotNull final ByteBuffer value,
+							   final int start,
+							   final int end,
+							   @NotNull final NotationType notationType)
+	{
+		final boolean separated = Converter.getSeparator(notationType) != Converter.NO_SEPARATOR;
+		int length = end - start;
+		char previous = Segmenter.NO_CHAR;
+
+		for (int index = start; index < end; index++)
+		{
+			final byte symbol = value.get(index);
+
+			if (symbol < 0) {
+				return NON_ASCII;
+			}
+
+			final char next = index + 1 < end ? (char) (value.get(index + 1) & 0xFF) : Segmenter.NO_CHAR;
+
+			switch (Segmenter.getBoundary(previous, (char) symbol, next))
+			{
+				case Segmenter.SEPARATOR -> {
+					if (!separated) {
+						length--;
+					}
+				}
+				case Segmenter.SPLIT -> {
+					if (separated) {
+						length++;
+					}
+				}
+				default -> {}
+			}
+
+			previous = (char) symbol;
+		}
+
+		return length;
+	}
+
+	/**
+	 * Возвращает составное слово в указанной нотации, декодируя его из UTF-8.
+	 *
+	 * @param source массив байтов.
+	 * @param start начальная позиция составного слова в {@code source} включительно.
+	 * @param end конечная позиция составного слова в {@code source} не включительно.
+	 * @param notationType тип нотации.
+	 * @return байты UTF-8 составного слова в указанной нотации.
+	 */
+	private static byte @NotNull [] convertDecoded(final byte @NotNull [] source,
+												   final int start,
+												   final int end,
+												   @NotNull final NotationType notationType)
+	{
+		final String value = new String(source, start, end - start, StandardCharsets.UTF_8);
+
+		return Converter.convert(value, notationType).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Возвращает составное слово из буфера в указанной нотации, декодируя его из UTF-8.
+	 *
+	 * @param source буфер байтов.
+	 * @param start начальная позиция составного слова в {@code source} включительно.
+	 * @param end конечная позиция составного слова в {@code source} не включительно.
+	 * @param notationType тип нотации.
+	 * @return байты UTF-8 составного слова в указанной нотации.
+	 */
+	private static byte @NotNull [] convertDecoded(@NotNull final ByteBuffer source,
+												   final int start,
+												   final int end,
+												   @NotNull final NotationType notationType)
+	{
+		final String value = StandardCharsets.UTF_8.decode(source.slice(start, end - start)).toString();
+
+		return Converter.convert(value, notationType).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Возвращает класс символа для байта UTF-8.
+	 *
+	 * @param symbol байт.
+	 * @return класс символа.
+	 */
+	private static int getCharClass(final byte symbol)
+	{
+		return symbol < 0 ? Automaton.OTHER : Automaton.getCharClass((char) symbol);
+	}
+
+	/**
+	 * Возвращает байт символа ASCII в указанном регистре.
+	 *
+	 * @param symbol символ ASCII.
+	 * @param upperCase {@code true}, если необходима прописная буква.
+	 * @return байт символа в указанном регистре.
+	 */
+	private static byte toCase(final char symbol, final boolean upperCase)
+	{
+		final int charClass = Automaton.getCharClass(symbol);
+
+		if (upperCase && charClass == Automaton.LOWER) {
+			return (byte) (symbol & ~CASE_BIT);
+		}
+
+		if (!upperCase && charClass == Automaton.UPPER) {
+			return (byte) (symbol | CASE_BIT);
+		}
+
+		return (byte) symbol;
+	}
+}
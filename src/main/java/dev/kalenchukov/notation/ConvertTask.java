@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Класс задачи параллельного преобразования массива строк в нотацию.
+ * <p>Массив делится пополам до частей не больше {@link #CHUNK_SIZE} строк.
+ * Каждая часть записывает результаты в свой непрерывный диапазон массива результатов,
+ * поэтому потоки пишут в общие строки кэша только на границах частей.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class ConvertTask extends RecursiveAction
+{
+	/**
+	 * Максимальное количество строк, преобразуемых одной задачей без деления.
+	 * <p>Строки такой части вместе с результатами помещаются в кэш процессора.</p>
+	 */
+	static final int CHUNK_SIZE = 2048;
+
+	/**
+	 * Строки, нотацию которых необходимо изменить.
+	 */
+	private final String @NotNull [] values;
+
+	/**
+	 * Начальная позиция диапазона включительно.
+	 */
+	private final int start;
+
+	/**
+	 * Конечная позиция диапазона не включительно.
+	 */
+	private final int end;
+
+	/**
+	 * Тип нотации.
+	 */
+	@NotNull
+	private final NotationType notationType;
+
+	/**
+	 * Массив результатов.
+	 */
+	private final String @NotNull [] results;
+
+	/**
+	 * Конструктор для {@code ConvertTask}.
+	 *
+	 * @param values строки, нотацию которых необходимо изменить.
+	 * @param start начальная позиция диапазона в {@code values} включительно.
+	 * @param end конечная позиция диапазона в {@code values} не включительно.
+	 * @param notationType тип нотации.
+	 * @param results массив, в который записываются строки в указанной нотации по тем же позициям.
+	 */
+	ConvertTask(final String @NotNull [] values,
+				final int start,
+				final int end,
+				@NotNull final NotationType notationType,
+				final String @NotNull [] results)
+	{
+		this.values = values;
+		this.start = start;
+		this.end = end;
+		this.notationType = notationType;
+		this.results = results;
+	}
+
+	/**
+	 * Преобразует строки диапазона.
+	 */
+	@Override
+	protected void compute()
+	{
+		if (this.end - this.start <= CHUNK_SIZE)
+		{
+			Converter.convertRange(this.values, this.start, this.end, this.notationType, this.results);
+
+			return;
+		}
+
+		final int middle = (this.start + this.end) >>> 1;
+
+		ConvertTask.invokeAll(
+			new ConvertTask(this.values, this.start, middle, this.notationType, this.results),
+			new ConvertTask(this.values, middle, this.end, this.notationType, this.results)
+		);
+	}
+}
@@ -0,0 +1,516 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import dev.kalenchukov.notation.resources.SeparatorType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Класс преобразования составных слов в нотации.
+ * <p>Преобразование выполняется за один проход по границам слов, найденным {@link Segmenter},
+ * с записью результата в один буфер. Если строка уже записана в указанной нотации,
+ * возвращается исходный объект строки без выделения памяти.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class Converter
+{
+	/**
+	 * Признак отсутствия символа разделителя в нотации.
+	 */
+	static final char NO_SEPARATOR = '\0';
+
+	/**
+	 * Признак того, что строка в указанной нотации совпадает с исходной.
+	 */
+	static final int UNCHANGED = -1;
+
+	/**
+	 * Конструктор для {@code Converter}.
+	 */
+	private Converter() {}
+
+	/**
+	 * Возвращает строку в указанной нотации.
+	 * <p>Если {@code value} уже записана в указанной нотации, возвращается {@code value.toString()}.</p>
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @return строку в указанной нотации.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 */
+	@NotNull
+	static String convert(@NotNull final CharSequence value, @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+
+		final int length = value.length();
+		final int resultLength = Converter.measureIfChanged(value, 0, length, notationType);
+
+		if (resultLength == UNCHANGED) {
+			return value.toString();
+		}
+
+		final char[] result = new char[resultLength];
+		Converter.convert(value, 0, length, notationType, result, 0);
+
+		return new String(result);
+	}
+
+	/**
+	 * Возвращает строки в указанной нотации.
+	 * <p>Одинаковые строки преобразуются один раз, а для всех строк используется общий буфер.
+	 * Разделитель добавляется не чаще одного раза на символ, поэтому буфера удвоенной длины строки
+	 * достаточно для результата.</p>
+	 *
+	 * @param values строки, нотацию которых необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @return строки в указанной нотации в порядке {@code values}.
+	 * @throws NullPointerException если в {@code values} содержится {@code null}.
+	 */
+	static String @NotNull [] convertAll(final String @NotNull [] values, @NotNull final NotationType notationType)
+	{
+		final String[] results = new String[values.length];
+		final Map<String, String> converted = new HashMap<>();
+		char[] buffer = new char[64];
+
+		for (int index = 0; index < values.length; index++)
+		{
+			final String value = Objects.requireNonNull(values[index]);
+			String result = converted.get(value);
+
+			if (result == null)
+			{
+				if (Converter.measureIfChanged(value, 0, value.length(), notationType) == UNCHANGED)
+				{
+					result = value;
+				}
+				else
+				{
+					if (buffer.length < value.length() * 2) {
+						buffer = new char[value.length() * 2];
+					}
+
+					final int length = Converter.convert(value, 0, value.length(), notationType, buffer, 0);
+					result = new String(buffer, 0, length);
+				}
+
+				converted.put(value, result);
+			}
+
+			results[index] = result;
+		}
+
+		return results;
+	}
+
+	/**
+	 * Записывает строки диапазона в указанной нотации в массив результатов.
+	 * <p>Для всех строк диапазона используется общий буфер.</p>
+	 *
+	 * @param values строки, нотацию которых необходимо изменить.
+	 * @param start начальная позиция диапазона в {@code values} включительно.
+	 * @param end конечная позиция диапазона в {@code values} не включительно.
+	 * @param notationType тип нотации.
+	 * @param results массив, в который записываются строки в указанной нотации по тем же позициям.
+	 * @throws NullPointerException если в диапазоне {@code values} содержится {@code null}.
+	 */
+	static void convertRange(final String @NotNull [] values,
+							 final int start,
+							 final int end,
+							 @NotNull final NotationType notationType,
+							 final String @NotNull [] results)
+	{
+		char[] buffer = new char[64];
+
+		for (int index = start; index < end; index++)
+		{
+			final String value = Objects.requireNonNull(values[index]);
+
+			if (Converter.measureIfChanged(value, 0, value.length(), notationType) == UNCHANGED)
+			{
+				results[index] = value;
+				continue;
+			}
+
+			if (buffer.length < value.length() * 2) {
+				buffer = new char[value.length() * 2];
+			}
+
+			final int length = Converter.convert(value, 0, value.length(), notationType, buffer, 0);
+			results[index] = new String(buffer, 0, length);
+		}
+	}
+
+	/**
+	 * Возвращает длину составного слова в указанной нотации.
+	 *
+	 * @param value строка.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @return количество символов составного слова в указанной нотации.
+	 */
+	static int measure(@NotNull final CharSequence value,
+					   final int start,
+					   final int end,
+					   @NotNull final NotationType notationType)
+	{
+		final boolean separated = Converter.getSeparator(notationType) != NO_SEPARATOR;
+		int length = end - start;
+
+		for (int index = start; index < end; index++)
+		{
+			switch (Segmenter.getBoundary(value, start, end, index))
+			{
+				case Segmenter.SEPARATOR -> {
+					if (!separated) {
+						length--;
+					}
+				}
+				case Segmenter.SPLIT -> {
+					if (separated) {
+						length++;
+					}
+				}
+				default -> {}
+			}
+		}
+
+		return length;
+	}
+
+	/**
+	 * Возвращает длину составного слова в указанной нотации, если оно отличается от исходного.
+	 * <p>Совпадение с исходным словом проверяется в том же проходе, что и подсчёт длины:
+	 * слово не изменяется, если не добавляются и не удаляются разделители, разделители совпадают
+	 * с разделителем нотации, а регистр каждого символа уже соответствует нотации.</p>
+	 *
+	 * @param value строка.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @return количество символов составного слова в указанной нотации
+	 * или {@link #UNCHANGED}, если оно совпадает с исходным.
+	 */
+	static int measureIfChanged(@NotNull final CharSequence value,
+								final int start,
+								final int end,
+								@NotNull final NotationType notationType)
+	{
+		final char separator = Converter.getSeparator(notationType);
+		int length = end - start;
+		boolean changed = false;
+		boolean wordStart = false;
+		char previous = Segmenter.NO_CHAR;
+
+		for (int index = start; index < end; index++)
+		{
+			final char symbol = value.charAt(index);
+			final char next = index + 1 < end ? value.charAt(index + 1) : Segmenter.NO_CHAR;
+			final int boundary = Segmenter.getBoundary(previous, symbol, next);
+			previous = symbol;
+
+			if (boundary == Segmenter.SEPARATOR)
+			{
+				if (separator == NO_SEPARATOR)
+				{
+					length--;
+					changed = true;
+				}
+				else if (symbol != separator)
+				{
+					changed = true;
+				}
+
+				wordStart = true;
+				continue;
+			}
+
+			if (boundary == Segmenter.SPLIT)
+			{
+				if (separator != NO_SEPARATOR)
+				{
+					length++;
+					changed = true;
+				}
+
+				wordStart = true;
+			}
+
+			if (!changed && Converter.toCase(symbol, notationType, wordStart, index == start) != symbol) {
+				changed = true;
+			}
+
+			wordStart = false;
+		}
+
+		return changed ? length : UNCHANGED;
+	}
+
+	/**
+	 * Записывает составное слово в указанной нотации в массив символов.
+	 *
+	 * @param value строка.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @param destination массив, в который записывается результат.
+	 * @param offset позиция в {@code destination}, с которой записывается результат.
+	 * @return количество записанных символов.
+	 */
+	static int convert(@NotNull final CharSequence value,
+					   final int start,
+					   final int end,
+					   @NotNull final NotationType notationType,
+					   final char @NotNull [] destination,
+					   final int offset)
+	{
+		return Converter.convert(
+			value, start, end, notationType, (position, symbol) -> destination[offset + position] = symbol
+		);
+	}
+
+	/**
+	 * Добавляет составное слово в указанной нотации в {@code destination}.
+	 *
+	 * @param value строка.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @param destination объект, в который добавляется результат.
+	 * @throws IOException если произошла ошибка ввода-вывода в {@code destination}.
+	 */
+	static void convert(@NotNull final CharSequence value,
+						final int start,
+						final int end,
+						@NotNull final NotationType notationType,
+						@NotNull final Appendable destination)
+		throws IOException
+	{
+		Converter.convert(value, start, end, notationType, (position, symbol) -> destination.append(symbol));
+	}
+
+	/**
+	 * Записывает составное слово из массива символов в указанной нотации в массив символов.
+	 *
+	 * @param source массив символов.
+	 * @param start начальная позиция составного слова в {@code source} включительно.
+	 * @param end конечная позиция составного слова в {@code source} не включительно.
+	 * @param notationType тип нотации.
+	 * @param destination массив, в который записывается результат.
+	 * @param offset позиция в {@code destination}, с которой записывается результат.
+	 * @return количество записанных символов.
+	 */
+	static int convert(final char @NotNull [] source,
+					   final int start,
+					   final int end,
+					   @NotNull final NotationType notationType,
+					   final char @NotNull [] destination,
+					   final int offset)
+	{
+		return Converter.convert(CharBuffer.wrap(source), start, end, notationType, destination, offset);
+	}
+
+	/**
+	 * Передаёт символы составного слова в указанной нотации в {@code sink}.
+	 * <p>Для строки из массива символов следующая граница слов ищется {@link BoundaryScanner},
+	 * в том числе векторными операциями, и вид границы определяется только в найденных позициях.
+	 * Для остальных строк вид границы определяется для каждого символа.</p>
+	 *
+	 * @param value строка.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @param notationType тип нотации.
+	 * @param sink получатель символов.
+	 * @param <E> тип исключения получателя символов.
+	 * @return количество символов результата.
+	 * @throws E если получатель символов не принял символ.
+	 */
+	private static <E extends Exception> int convert(@NotNull final CharSequence value,
+													  final int start,
+													  final int end,
+													  @NotNull final NotationType notationType,
+													  @NotNull final Sink<E> sink)
+		throws E
+	{
+		final char separator = Converter.getSeparator(notationType);
+		final char[] array = value instanceof CharBuffer buffer && buffer.hasArray() ? buffer.array() : null;
+		final int offset = array != null ? ((CharBuffer) value).arrayOffset() + ((CharBuffer) value).position() : 0;
+		int position = 0;
+		boolean wordStart = false;
+		char previous = Segmenter.NO_CHAR;
+		char symbol = start < end ? value.charAt(start) : Segmenter.NO_CHAR;
+
+		for (int index = start; index < end; index++)
+		{
+			final char current = symbol;
+			final char next = index + 1 < end ? Converter.charAt(value, array, offset, index + 1) : Segmenter.NO_CHAR;
+			final int boundary = Segmenter.getBoundary(previous, current, next);
+			previous = current;
+			symbol = next;
+
+			if (boundary != Segmenter.NONE)
+			{
+				if (separator != NO_SEPARATOR) {
+					sink.append(position++, separator);
+				}
+
+				wordStart = true;
+
+				if (boundary == Segmenter.SEPARATOR) {
+					continue;
+				}
+			}
+
+			sink.append(position++, Converter.toCase(current, notationType, wordStart, index == start));
+			wordStart = false;
+
+			if (array == null) {
+				continue;
+			}
+
+			final int nextBoundary = BoundaryScanner.next(array, offset + index + 1, offset + start, offset + end) - offset;
+
+			if (nextBoundary > index + 1)
+			{
+				for (int run = index + 1; run < nextBoundary; run++) {
+					sink.append(position++, Converter.toCase(array[offset + run], notationType, false, false));
+				}
+
+				index = nextBoundary - 1;
+				previous = array[offset + index];
+				symbol = nextBoundary < end ? array[offset + nextBoundary] : Segmenter.NO_CHAR;
+			}
+		}
+
+		return position;
+	}
+
+	/**
+	 * Возвращает символ строки.
+	 *
+	 * @param value строка.
+	 * @param array массив символов строки или {@code null}, если строка не основана на массиве.
+	 * @param offset позиция начала строки в {@code array}.
+	 * @param index позиция символа в {@code value}.
+	 * @return символ.
+	 */
+	private static char charAt(@NotNull final CharSequence value,
+							   final char @Nullable [] array,
+							   final int offset,
+							   final int index)
+	{
+		return array != null ? array[offset + index] : value.charAt(index);
+	}
+
+	/**
+	 * Возвращает символ в регистре указанной нотации.
+	 *
+	 * @param symbol символ.
+	 * @param notationType тип нотации.
+	 * @param wordStart {@code true}, если символ начинает слово, кроме первого.
+	 * @param first {@code true}, если символ является первым в составном слове.
+	 * @return символ в регистре нотации.
+	 */
+	static char toCase(final char symbol,
+					   @NotNull final NotationType notationType,
+					   final boolean wordStart,
+					   final boolean first)
+	{
+		return Converter.isUpperCase(notationType, wordStart, first)
+			? Character.toUpperCase(symbol)
+			: Character.toLowerCase(symbol);
+	}
+
+	/**
+	 * Проверяет, записывается ли символ в указанной нотации прописной буквой.
+	 *
+	 * @param notationType тип нотации.
+	 * @param wordStart {@code true}, если символ начинает слово, кроме первого.
+	 * @param first {@code true}, если символ является первым в составном слове.
+	 * @return {@code true}, если символ записывается прописной буквой, иначе {@code false}.
+	 */
+	static boolean isUpperCase(@NotNull final NotationType notationType, final boolean wordStart, final boolean first)
+	{
+		return switch (notationType)
+		{
+			case UPPER_CASE, TRAIN_CASE -> true;
+			case KEBAB_CASE, SNAKE_CASE, DOT_CASE -> false;
+			case CAMEL_CASE -> wordStart;
+			case PASCAL_CASE -> wordStart || first;
+		};
+	}
+
+	/**
+	 * Возвращает символ разделителя слов указанной нотации.
+	 *
+	 * @param notationType тип нотации.
+	 * @return символ разделителя или {@link #NO_SEPARATOR}, если слова пишутся слитно.
+	 */
+	static char getSeparator(@NotNull final NotationType notationType)
+	{
+		final SeparatorType separatorType = switch (notationType)
+		{
+			case UPPER_CASE, SNAKE_CASE -> SeparatorType.UNDERSCORE;
+			case KEBAB_CASE, TRAIN_CASE -> SeparatorType.HYPHEN;
+			case CAMEL_CASE, PASCAL_CASE -> SeparatorType.UPPERCASE;
+			case DOT_CASE -> SeparatorType.DOT;
+		};
+
+		final String symbol = separatorType.getSymbol();
+
+		return symbol.isEmpty() ? NO_SEPARATOR : symbol.charAt(0);
+	}
+
+	/**
+	 * Интерфейс получателя символов результата.
+	 *
+	 * @param <E> тип исключения, которое может выбросить получатель.
+	 * @author Алексей Каленчуков
+	 */
+	@FunctionalInterface
+	private interface Sink<E extends Exception>
+	{
+		/**
+		 * Принимает символ.
+		 *
+		 * @param position позиция символа в результате.
+		 * @param symbol символ.
+		 * @throws E если символ не принят.
+		 */
+		void append(int position, char symbol) throws E;
+	}
+}
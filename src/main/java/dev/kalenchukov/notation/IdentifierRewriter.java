@@ -0,0 +1,331 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Класс потокового изменения нотации составных слов в тексте.
+ * <p>Лексема состоит из букв, цифр и разделителя слов исходной нотации, поэтому другие разделители
+ * делят составные слова смешанного вида: в {@code server.max-pool-size} нотации Kebab Case
+ * лексемами являются {@code server} и {@code max-pool-size}. Лексема, которая соответствует исходной
+ * нотации по правилам {@link dev.kalenchukov.notation.resources.Regexp} и состоит больше чем из одного
+ * слова, записывается в нотации результата, а остальные символы переписываются без изменений.
+ * Отдельные слова текста не изменяются. Разделители в начале и в конце лексемы в неё не входят
+ * и также переписываются без изменений.</p>
+ * <p>Память расходуется только на буферы постоянного размера. Лексема, длина которой превышает
+ * размер буфера, переписывается без изменений.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class IdentifierRewriter
+{
+	/**
+	 * Размер буферов чтения, записи и лексемы.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Объект, в который записывается результат.
+	 */
+	@NotNull
+	private final Writer writer;
+
+	/**
+	 * Исходная нотация.
+	 */
+	@NotNull
+	private final NotationType from;
+
+	/**
+	 * Нотация результата.
+	 */
+	@NotNull
+	private final NotationType to;
+
+	/**
+	 * Разделитель слов исходной нотации или {@link Converter#NO_SEPARATOR}, если слова пишутся слитно.
+	 */
+	private final char separator;
+
+	/**
+	 * Буфер записи.
+	 */
+	private final char @NotNull [] output;
+
+	/**
+	 * Количество символов в буфере записи.
+	 */
+	private int outputLength;
+
+	/**
+	 * Символы текущей лексемы.
+	 */
+	private final char @NotNull [] token;
+
+	/**
+	 * Количество символов текущей лексемы.
+	 */
+	private int tokenLength;
+
+	/**
+	 * Длина текущей лексемы без разделителей в конце.
+	 */
+	private int wordLength;
+
+	/**
+	 * Буфер лексемы в нотации результата.
+	 */
+	private final char @NotNull [] converted;
+
+	/**
+	 * Признак того, что текущая лексема не поместилась в буфер и переписывается без изменений.
+	 */
+	private boolean overflow;
+
+	/**
+	 * Конструктор для {@code IdentifierRewriter}.
+	 *
+	 * @param writer объект, в который записывается результат.
+	 * @param from исходная нотация.
+	 * @param to нотация результата.
+	 * @param bufferSize размер буферов.
+	 */
+	private IdentifierRewriter(@NotNull final Writer writer,
+							   @NotNull final NotationType from,
+							   @NotNull final NotationType to,
+							   final int bufferSize)
+	{
+		this.writer = writer;
+		this.from = from;
+		this.to = to;
+		this.separator = Converter.getSeparator(from);
+		this.output = new char[bufferSize];
+		this.token = new char[bufferSize];
+		this.converted = new char[bufferSize * 2];
+	}
+
+	/**
+	 * Переписывает текст с изменением нотации составных слов исходной нотации.
+	 *
+	 * @param reader объект, из которого читается текст.
+	 * @param writer объект, в который записывается результат.
+	 * @param from исходная нотация.
+	 * @param to нотация результата.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	static void rewrite(@NotNull final Reader reader,
+						@NotNull final Writer writer,
+						@NotNull final NotationType from,
+						@NotNull final NotationType to)
+		throws IOException
+	{
+		IdentifierRewriter.rewrite(reader, writer, from, to, BUFFER_SIZE);
+	}
+
+	/**
+	 * Переписывает текст с изменением нотации составных слов исходной нотации, используя буферы указанного размера.
+	 *
+	 * @param reader объект, из которого читается текст.
+	 * @param writer объект, в который записывается результат.
+	 * @param from исходная нотация.
+	 * @param to нотация результата.
+	 * @param bufferSize размер буферов.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	static void rewrite(@NotNull final Reader reader,
+						@NotNull final Writer writer,
+						@NotNull final NotationType from,
+						@NotNull final NotationType to,
+						final int bufferSize)
+		throws IOException
+	{
+		final IdentifierRewriter rewriter = new IdentifierRewriter(writer, from, to, bufferSize);
+		final char[] input = new char[bufferSize];
+		int length;
+
+		while ((length = reader.read(input)) != -1) {
+			rewriter.process(input, length);
+		}
+
+		rewriter.finishToken();
+		rewriter.flush();
+	}
+
+	/**
+	 * Обрабатывает блок символов.
+	 *
+	 * @param input блок символов.
+	 * @param length количество символов в блоке.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void process(final char @NotNull [] input, final int length)
+		throws IOException
+	{
+		for (int index = 0; index < length; index++)
+		{
+			final char symbol = input[index];
+			final byte kind = NotationScanner.getKind(symbol);
+			final boolean separator = kind == NotationScanner.SEPARATOR && symbol == this.separator;
+
+			if (kind == NotationScanner.WORD || separator && this.tokenLength > 0) {
+				this.append(symbol, kind == NotationScanner.WORD);
+			}
+			else
+			{
+				this.finishToken();
+				this.write(symbol);
+			}
+		}
+	}
+
+	/**
+	 * Добавляет символ к текущей лексеме.
+	 * <p>Если лексема не помещается в буфер, накопленные символы записываются без изменений,
+	 * и лексема до конца переписывается без изменений.</p>
+	 *
+	 * @param symbol символ.
+	 * @param word {@code true}, если символ является буквой или цифрой.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void append(final char symbol, final boolean word)
+		throws IOException
+	{
+		if (!this.overflow && this.tokenLength == this.token.length)
+		{
+			this.write(this.token, 0, this.tokenLength);
+			this.overflow = true;
+		}
+
+		if (this.overflow)
+		{
+			this.write(symbol);
+
+			return;
+		}
+
+		this.token[this.tokenLength++] = symbol;
+
+		if (word) {
+			this.wordLength = this.tokenLength;
+		}
+	}
+
+	/**
+	 * Записывает текущую лексему.
+	 * <p>Лексема записывается в нотации результата, если соответствует исходной нотации
+	 * и содержит границу слов.</p>
+	 *
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void finishToken()
+		throws IOException
+	{
+		if (this.tokenLength == 0) {
+			return;
+		}
+
+		if (!this.overflow)
+		{
+			if (BoundaryScanner.next(this.token, 0, 0, this.wordLength) < this.wordLength
+				&& Automaton.matches(this.token, 0, this.wordLength, this.from))
+			{
+				final int length = Converter.convert(this.token, 0, this.wordLength, this.to, this.converted, 0);
+
+				this.write(this.converted, 0, length);
+			}
+			else
+			{
+				this.write(this.token, 0, this.wordLength);
+			}
+
+			this.write(this.token, this.wordLength, this.tokenLength - this.wordLength);
+		}
+
+		this.tokenLength = 0;
+		this.wordLength = 0;
+		this.overflow = false;
+	}
+
+	/**
+	 * Записывает символ в буфер записи.
+	 *
+	 * @param symbol символ.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void write(final char symbol)
+		throws IOException
+	{
+		if (this.outputLength == this.output.length) {
+			this.flush();
+		}
+
+		this.output[this.outputLength++] = symbol;
+	}
+
+	/**
+	 * Записывает символы в буфер записи.
+	 *
+	 * @param symbols массив символов.
+	 * @param offset позиция первого символа в {@code symbols}.
+	 * @param length количество символов.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void write(final char @NotNull [] symbols, final int offset, final int length)
+		throws IOException
+	{
+		if (length > this.output.length - this.outputLength)
+		{
+			this.flush();
+
+			if (length > this.output.length)
+			{
+				this.writer.write(symbols, offset, length);
+
+				return;
+			}
+		}
+
+		System.arraycopy(symbols, offset, this.output, this.outputLength, length);
+		this.outputLength += length;
+	}
+
+	/**
+	 * Записывает буфер записи в {@link #writer}.
+	 *
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void flush()
+		throws IOException
+	{
+		this.writer.write(this.output, 0, this.outputLength);
+		this.outputLength = 0;
+	}
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Класс потокового изменения нотации имён членов объектов JSON.
+ * <p>Текст JSON читается и записывается блоками без построения дерева. Имена членов объектов
+ * преобразуются в указанную нотацию, а остальные символы, в том числе значения и пробельные символы,
+ * переписываются без изменений. Память расходуется на буферы постоянного размера,
+ * самое длинное имя и стек вложенности.</p>
+ * <p>Имена, содержащие управляющие последовательности {@literal «\»}, не изменяются.
+ * Корректность JSON не проверяется, кроме баланса скобок и завершённости строк.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class JsonKeyRenamer
+{
+	/**
+	 * Размер буферов чтения и записи.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Состояние вне строк.
+	 */
+	private static final int STRUCTURE = 0;
+
+	/**
+	 * Состояние внутри строки значения.
+	 */
+	private static final int VALUE = 1;
+
+	/**
+	 * Состояние после символа {@literal «\»} внутри строки значения.
+	 */
+	private static final int VALUE_ESCAPE = 2;
+
+	/**
+	 * Состояние внутри имени члена объекта.
+	 */
+	private static final int KEY = 3;
+
+	/**
+	 * Состояние после символа {@literal «\»} внутри имени члена объекта.
+	 */
+	private static final int KEY_ESCAPE = 4;
+
+	/**
+	 * Объект, в который записывается результат.
+	 */
+	@NotNull
+	private final Writer writer;
+
+	/**
+	 * Тип нотации.
+	 */
+	@NotNull
+	private final NotationType notationType;
+
+	/**
+	 * Буфер записи.
+	 */
+	private final char @NotNull [] output;
+
+	/**
+	 * Количество символов в буфере записи.
+	 */
+	private int outputLength;
+
+	/**
+	 * Символы текущего имени члена объекта.
+	 */
+	@NotNull
+	private final StringBuilder key;
+
+	/**
+	 * Буфер имени члена объекта в указанной нотации.
+	 */
+	private char @NotNull [] converted;
+
+	/**
+	 * Признаки объектов в стеке вложенности: {@code true} для объекта, {@code false} для массива.
+	 */
+	private boolean @NotNull [] objects;
+
+	/**
+	 * Глубина вложенности.
+	 */
+	private int depth;
+
+	/**
+	 * Текущее состояние.
+	 */
+	private int state;
+
+	/**
+	 * Признак того, что следующая строка является именем члена объекта.
+	 */
+	private boolean expectKey;
+
+	/**
+	 * Признак наличия управляющих последовательностей в текущем имени.
+	 */
+	private boolean keyEscaped;
+
+	/**
+	 * Конструктор для {@code JsonKeyRenamer}.
+	 *
+	 * @param writer объект, в который записывается результат.
+	 * @param notationType тип нотации.
+	 */
+	private JsonKeyRenamer(@NotNull final Writer writer, @NotNull final NotationType notationType)
+	{
+		this.writer = writer;
+		this.notationType = notationType;
+		this.output = new char[BUFFER_SIZE];
+		this.key = new StringBuilder();
+		this.converted = new char[64];
+		this.objects = new boolean[16];
+		this.state = STRUCTURE;
+	}
+
+	/**
+	 * Переписывает JSON с изменением нотации имён членов объектов.
+	 *
+	 * @param reader объект, из которого читается JSON.
+	 * @param writer объект, в который записывается результат.
+	 * @param notationType тип нотации.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 * @throws IOException если скобки не сбалансированы или строка не завершена.
+	 */
+	static void rename(@NotNull final Reader reader,
+					   @NotNull final Writer writer,
+					   @NotNull final NotationType notationType)
+		throws IOException
+	{
+		final JsonKeyRenamer renamer = new JsonKeyRenamer(writer, notationType);
+		final char[] input = new char[BUFFER_SIZE];
+		int length;
+
+		while ((length = reader.read(input)) != -1) {
+			renamer.process(input, length);
+		}
+
+		renamer.finish();
+	}
+
+	/**
+	 * Обрабатывает блок символов.
+	 *
+	 * @param input блок символов.
+	 * @param length количество символов в блоке.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 * @throws IOException если встретилась закрывающая скобка без открывающей.
+	 */
+	private void process(final char @NotNull [] input, final int length)
+		throws IOException
+	{
+		for (int index = 0; index < length; index++)
+		{
+			final char symbol = input[index];
+
+			switch (this.state)
+			{
+				case STRUCTURE -> this.processStructure(symbol);
+				case VALUE -> {
+					this.write(symbol);
+
+					if (symbol == '\\') {
+						this.state = VALUE_ESCAPE;
+					}
+					else if (symbol == '"') {
+						this.state = STRUCTURE;
+					}
+				}
+				case VALUE_ESCAPE -> {
+					this.write(symbol);
+					this.state = VALUE;
+				}
+				case KEY -> {
+					if (symbol == '"')
+					{
+						this.writeKey();
+						this.write(symbol);
+						this.state = STRUCTURE;
+					}
+					else
+					{
+						this.key.append(symbol);
+
+						if (symbol == '\\')
+						{
+							this.keyEscaped = true;
+							this.state = KEY_ESCAPE;
+						}
+					}
+				}
+				default -> {
+					this.key.append(symbol);
+					this.state = KEY;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Обрабатывает символ вне строк.
+	 *
+	 * @param symbol символ.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 * @throws IOException если встретилась закрывающая скобка без открывающей.
+	 */
+	private void processStructure(final char symbol)
+		throws IOException
+	{
+		switch (symbol)
+		{
+			case '"' -> {
+				if (this.expectKey)
+				{
+					this.key.setLength(0);
+					this.keyEscaped = false;
+					this.expectKey = false;
+					this.state = KEY;
+				}
+				else
+				{
+					this.state = VALUE;
+				}
+			}
+			case '{' -> {
+				this.push(true);
+				this.expectKey = true;
+			}
+			case '[' -> {
+				this.push(false);
+				this.expectKey = false;
+			}
+			case '}', ']' -> {
+				if (this.depth == 0 || this.objects[this.depth - 1] != (symbol == '}')) {
+					throw new IOException("Закрывающая скобка «" + symbol + "» не соответствует открывающей");
+				}
+
+				this.depth--;
+				this.expectKey = false;
+			}
+			case ',' -> this.expectKey = this.depth > 0 && this.objects[this.depth - 1];
+			case ':' -> this.expectKey = false;
+			default -> {}
+		}
+
+		this.write(symbol);
+	}
+
+	/**
+	 * Добавляет контейнер в стек вложенности.
+	 *
+	 * @param object {@code true} для объекта, {@code false} для массива.
+	 */
+	private void push(final boolean object)
+	{
+		if (this.depth == this.objects.length) {
+			this.objects = Arrays.copyOf(this.objects, this.objects.length * 2);
+		}
+
+		this.objects[this.depth++] = object;
+	}
+
+	/**
+	 * Записывает текущее имя члена объекта в указанной нотации.
+	 *
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void writeKey()
+		throws IOException
+	{
+		final int length = this.key.length();
+
+		if (this.keyEscaped)
+		{
+			for (int index = 0; index < length; index++) {
+				this.write(this.key.charAt(index));
+			}
+
+			return;
+		}
+
+		if (this.converted.length < length * 2) {
+			this.converted = new char[length * 2];
+		}
+
+		final int convertedLength = Converter.convert(this.key, 0, length, this.notationType, this.converted, 0);
+
+		for (int index = 0; index < convertedLength; index++) {
+			this.write(this.converted[index]);
+		}
+	}
+
+	/**
+	 * Записывает символ в буфер записи.
+	 *
+	 * @param symbol символ.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void write(final char symbol)
+		throws IOException
+	{
+		if (this.outputLength == this.output.length) {
+			this.flush();
+		}
+
+		this.output[this.outputLength++] = symbol;
+	}
+
+	/**
+	 * Записывает буфер записи в {@link #writer}.
+	 *
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void flush()
+		throws IOException
+	{
+		this.writer.write(this.output, 0, this.outputLength);
+		this.outputLength = 0;
+	}
+
+	/**
+	 * Завершает обработку.
+	 *
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 * @throws IOException если строка не завершена или остались незакрытые скобки.
+	 */
+	private void finish()
+		throws IOException
+	{
+		this.flush();
+
+		if (this.state != STRUCTURE) {
+			throw new IOException("Строка не завершена");
+		}
+
+		if (this.depth != 0) {
+			throw new IOException("Не закрыто скобок: " + this.depth);
+		}
+	}
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс кэша преобразований нотаций с ограниченным количеством записей.
+ * <p>Чтение из кэша не блокирует потоки. При заполнении кэша вытесняется запись,
+ * к которой реже всего обращались: записи обходятся по кругу, счётчик обращений каждой
+ * записи уменьшается на единицу, а первая запись с нулевым счётчиком вытесняется.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class NotationCache
+{
+	/**
+	 * Максимальное значение счётчика обращений к записи.
+	 */
+	private static final int MAX_FREQUENCY = 15;
+
+	/**
+	 * Записи по типам нотаций.
+	 * <p>Индекс массива соответствует порядковому номеру типа нотации.</p>
+	 */
+	@NotNull
+	private final ConcurrentHashMap<@NotNull String, @NotNull Entry> @NotNull [] entries;
+
+	/**
+	 * Ячейки записей, обходимые при вытеснении.
+	 */
+	@NotNull
+	private final Entry @NotNull [] slots;
+
+	/**
+	 * Количество занятых ячеек.
+	 * <p>Изменяется только под блокировкой кэша.</p>
+	 */
+	private int size;
+
+	/**
+	 * Позиция ячейки, с которой продолжится обход при вытеснении.
+	 * <p>Изменяется только под блокировкой кэша.</p>
+	 */
+	private int hand;
+
+	/**
+	 * Количество попаданий.
+	 */
+	@NotNull
+	private final LongAdder hitCount;
+
+	/**
+	 * Количество промахов.
+	 */
+	@NotNull
+	private final LongAdder missCount;
+
+	/**
+	 * Количество вытеснений.
+	 */
+	@NotNull
+	private final LongAdder evictionCount;
+
+	/**
+	 * Конструктор для {@code NotationCache}.
+	 *
+	 * @param maximumSize максимальное количество записей.
+	 * @throws IllegalArgumentException если {@code maximumSize} меньше 1.
+	 */
+	@SuppressWarnings("unchecked")
+	public NotationCache(final int maximumSize)
+	{
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("Максимальное количество записей должно быть больше 0");
+		}
+
+		NotationType[] notationTypes = NotationType.values();
+
+		this.entries = new ConcurrentHashMap[notationTypes.length];
+
+		for (NotationType notationType : notationTypes) {
+			this.entries[notationType.ordinal()] = new ConcurrentHashMap<>();
+		}
+
+		this.slots = new Entry[maximumSize];
+		this.hitCount = new LongAdder();
+		this.missCount = new LongAdder();
+		this.evictionCount = new LongAdder();
+	}
+
+	/**
+	 * Изменяет нотацию строки на указанную, используя кэш.
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @return строку в указанной нотации.
+	 */
+	@NotNull
+	public String to(@NotNull final String value, @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+
+		Entry entry = this.entries[notationType.ordinal()].get(value);
+
+		if (entry != null)
+		{
+			entry.increment();
+
+			this.hitCount.increment();
+
+			return entry.result;
+		}
+
+		this.missCount.increment();
+
+		return this.put(value, notationType, Converter.convert(value, notationType));
+	}
+
+	/**
+	 * Возвращает количество записей.
+	 *
+	 * @return количество записей.
+	 */
+	public synchronized int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Возвращает максимальное количество записей.
+	 *
+	 * @return максимальное количество записей.
+	 */
+	public int getMaximumSize()
+	{
+		return this.slots.length;
+	}
+
+	/**
+	 * Возвращает количество попаданий.
+	 *
+	 * @return количество попаданий.
+	 */
+	public long getHitCount()
+	{
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Возвращает количество промахов.
+	 *
+	 * @return количество промахов.
+	 */
+	public long getMissCount()
+	{
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Возвращает количество вытеснений.
+	 *
+	 * @return количество вытеснений.
+	 */
+	public long getEvictionCount()
+	{
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Удаляет все записи.
+	 * <p>Счётчики попаданий, промахов и вытеснений не сбрасываются.</p>
+	 */
+	public synchronized void clear()
+	{
+		for (ConcurrentHashMap<String, Entry> map : this.entries) {
+			map.clear();
+		}
+
+		Arrays.fill(this.slots, null);
+		this.size = 0;
+		this.hand = 0;
+	}
+
+	/**
+	 * Добавляет запись, при необходимости вытесняя другую.
+	 *
+	 * @param value исходная строка.
+	 * @param notationType тип нотации.
+	 * @param result строка в указанной нотации.
+	 * @return строку в указанной нотации из кэша.
+	 */
+	@NotNull
+	private synchronized String put(@NotNull final String value,
+									@NotNull final NotationType notationType,
+									@NotNull final String result)
+	{
+		ConcurrentHashMap<String, Entry> map = this.entries[notationType.ordinal()];
+		Entry existing = map.get(value);
+
+		if (existing != null) {
+			return existing.result;
+		}
+
+		int slot;
+
+		if (this.size < this.slots.length) {
+			slot = this.size++;
+		}
+		else {
+			slot = this.evict();
+		}
+
+		Entry entry = new Entry(value, notationType, result);
+		this.slots[slot] = entry;
+		map.put(value, entry);
+
+		return result;
+	}
+
+	/**
+	 * Вытесняет запись с наименьшим счётчиком обращений.
+	 *
+	 * @return позицию освободившейся ячейки.
+	 */
+	private int evict()
+	{
+		while (true)
+		{
+			Entry entry = this.slots[this.hand];
+			int slot = this.hand;
+			this.hand = (this.hand + 1) % this.slots.length;
+
+			if (entry.decrement()) {
+				continue;
+			}
+
+			this.entries[entry.notationType.ordinal()].remove(entry.value, entry);
+			this.evictionCount.increment();
+
+			return slot;
+		}
+	}
+
+	/**
+	 * Класс записи кэша.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private static final class Entry
+	{
+		/**
+		 * Доступ к счётчику обращений.
+		 */
+		@NotNull
+		private static final VarHandle FREQUENCY;
+
+		static
+		{
+			try {
+				FREQUENCY = MethodHandles.lookup().findVarHandle(Entry.class, "frequency", int.class);
+			}
+			catch (ReflectiveOperationException exception) {
+				throw new ExceptionInInitializerError(exception);
+			}
+		}
+
+		/**
+		 * Исходная строка.
+		 */
+		@NotNull
+		private final String value;
+
+		/**
+		 * Тип нотации.
+		 */
+		@NotNull
+		private final NotationType notationType;
+
+		/**
+		 * Строка в указанной нотации.
+		 */
+		@NotNull
+		private final String result;
+
+		/**
+		 * Счётчик обращений.
+		 * <p>Читается и записывается только через {@link #FREQUENCY} в режиме opaque: каждое
+		 * изменение становится видимым другим потокам, но чтение и запись не объединяются в атомарную
+		 * операцию. При одновременных обращениях часть изменений может теряться, а значение остаётся
+		 * в пределах от 0 до {@link NotationCache#MAX_FREQUENCY}; для вытеснения достаточно приблизительного значения.</p>
+		 */
+		@SuppressWarnings("unused")
+		private int frequency;
+
+		/**
+		 * Конструктор для {@code Entry}.
+		 *
+		 * @param value исходная строка.
+		 * @param notationType тип нотации.
+		 * @param result строка в указанной нотации.
+		 */
+		private Entry(@NotNull final String value,
+					  @NotNull final NotationType notationType,
+					  @NotNull final String result)
+		{
+			this.value = value;
+			this.notationType = notationType;
+			this.result = result;
+		}
+
+		/**
+		 * Увеличивает счётчик обращений, если он меньше {@link NotationCache#MAX_FREQUENCY}.
+		 */
+		private void increment()
+		{
+			int frequency = (int) FREQUENCY.getOpaque(this);
+
+			if (frequency < MAX_FREQUENCY) {
+				FREQUENCY.setOpaque(this, frequency + 1);
+			}
+		}
+
+		/**
+		 * Уменьшает счётчик обращений, если он больше 0.
+		 *
+		 * @return {@code true}, если счётчик был уменьшен.
+		 */
+		private boolean decrement()
+		{
+			int frequency = (int) FREQUENCY.getOpaque(this);
+
+			if (frequency > 0)
+			{
+				FREQUENCY.setOpaque(this, frequency - 1);
+				return true;
+			}
+
+			return false;
+		}
+	}
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Класс содержит статические методы для изменения нотации строк в файлах.
+ * <p>Файл содержит по одной строке в кодировке UTF-8 на линию. Файл отображается в память частями,
+ * граница каждой части сдвигается к концу линии. Части преобразуются параллельно и записываются
+ * в результирующий файл по порядку через буферы вне кучи. Линии из символов ASCII преобразуются
+ * побайтно без создания объекта строки.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class NotationFiles
+{
+	/**
+	 * Размер части файла по умолчанию.
+	 */
+	private static final int CHUNK_SIZE = 8 << 20;
+
+	/**
+	 * Максимальный размер части файла.
+	 * <p>Часть увеличивается до конца линии не больше этого размера, поэтому размер буфера
+	 * с преобразованными линиями помещается в {@code int}.</p>
+	 */
+	private static final int MAX_CHUNK_SIZE = 1 << 29;
+
+	/**
+	 * Конструктор для {@code NotationFiles}.
+	 */
+	private NotationFiles() {}
+
+	/**
+	 * Записывает строки файла в указанной нотации в другой файл.
+	 * <p>Части файла преобразуются в {@link ForkJoinPool#commonPool()}.</p>
+	 *
+	 * @param source файл со строками, нотацию которых необходимо изменить.
+	 * @param target файл, в который записываются строки в указанной нотации.
+	 * @param notationType тип нотации.
+	 * @throws NullPointerException если в качестве {@code source} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code target} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws IOException если линия длиннее 512 МиБ.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	public static void convert(@NotNull final Path source,
+							   @NotNull final Path target,
+							   @NotNull final NotationType notationType)
+		throws IOException
+	{
+		NotationFiles.convert(source, target, notationType, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Записывает строки файла в указанной нотации в другой файл.
+	 *
+	 * @param source файл со строками, нотацию которых необходимо изменить.
+	 * @param target файл, в который записываются строки в указанной нотации.
+	 * @param notationType тип нотации.
+	 * @param pool пул потоков, в котором преобразуются части файла.
+	 * @throws NullPointerException если в качестве {@code source} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code target} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code pool} передан {@code null}.
+	 * @throws IOException если линия длиннее 512 МиБ.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	public static void convert(@NotNull final Path source,
+							   @NotNull final Path target,
+							   @NotNull final NotationType notationType,
+							   @NotNull final ForkJoinPool pool)
+		throws IOException
+	{
+		Objects.requireNonNull(source);
+		Objects.requireNonNull(target);
+		Objects.requireNonNull(notationType);
+		Objects.requireNonNull(pool);
+
+		NotationFiles.convert(source, target, notationType, pool, CHUNK_SIZE);
+	}
+
+	/**
+	 * Записывает строки файла в указанной нотации в другой файл частями указанного размера.
+	 *
+	 * @param source файл со строками, нотацию которых необходимо изменить.
+	 * @param target файл, в который записываются строки в указанной нотации.
+	 * @param notationType тип нотации.
+	 * @param pool пул потоков, в котором преобразуются части файла.
+	 * @param chunkSize размер части файла.
+	 * @throws IOException если линия длиннее {@link #MAX_CHUNK_SIZE}.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	static void convert(@NotNull final Path source,
+						@NotNull final Path target,
+						@NotNull final NotationType notationType,
+						@NotNull final ForkJoinPool pool,
+						final int chunkSize)
+		throws IOException
+	{
+		NotationFiles.convert(source, target, notationType, pool, chunkSize, MAX_CHUNK_SIZE);
+	}
+
+	/**
+	 * Записывает строки файла в указанной нотации в другой файл частями указанного размера.
+	 *
+	 * @param source файл со строками, нотацию которых необходимо изменить.
+	 * @param target файл, в который записываются строки в указанной нотации.
+	 * @param notationType тип нотации.
+	 * @param pool пул потоков, в котором преобразуются части файла.
+	 * @param chunkSize размер части файла.
+	 * @param maxChunkSize максимальный размер части файла.
+	 * @throws IOException если линия длиннее {@code maxChunkSize}.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	static void convert(@NotNull final Path source,
+						@NotNull final Path target,
+						@NotNull final NotationType notationType,
+						@NotNull final ForkJoinPool pool,
+						final int chunkSize,
+						final int maxChunkSize)
+		throws IOException
+	{
+		final int maxPending = pool.getParallelism() * 2;
+		final Deque<Future<ByteBuffer>> pending = new ArrayDeque<>();
+		final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+		try (FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+			 FileChannel output = FileChannel.open(target, StandardOpenOption.CREATE,
+												   StandardOpenOption.TRUNCATE_EXISTING,
+												   StandardOpenOption.WRITE))
+		{
+			final long size = input.size();
+			long position = 0;
+
+			try
+			{
+				while (position < size)
+				{
+					final ByteBuffer chunk = NotationFiles.mapChunk(
+						input, position, size, Math.min(chunkSize, maxChunkSize), maxChunkSize
+					);
+					position += chunk.remaining();
+
+					pending.add(pool.submit(() -> NotationFiles.convertChunk(chunk, notationType, buffers)));
+
+					if (pending.size() >= maxPending) {
+						NotationFiles.write(output, pending.poll(), buffers);
+					}
+				}
+
+				while (!pending.isEmpty()) {
+					NotationFiles.write(output, pending.poll(), buffers);
+				}
+			}
+			finally
+			{
+				for (Future<ByteBuffer> future : pending) {
+					future.cancel(false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Отображает в память часть файла, заканчивающуюся концом линии или концом файла.
+	 * <p>Если линия длиннее части, часть увеличивается вдвое до конца линии, но не больше
+	 * {@code maxChunkSize}. При увеличении конец линии ищется только в добавленных байтах.</p>
+	 *
+	 * @param input файл.
+	 * @param position позиция начала части.
+	 * @param size размер файла.
+	 * @param chunkSize размер части.
+	 * @param maxChunkSize максимальный размер части.
+	 * @return часть файла.
+	 * @throws IOException если линия длиннее {@code maxChunkSize}.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	@NotNull
+	private static ByteBuffer mapChunk(@NotNull final FileChannel input,
+									   final long position,
+									   final long size,
+									   final int chunkSize,
+									   final int maxChunkSize)
+		throws IOException
+	{
+		long length = Math.min(chunkSize, size - position);
+		long scanned = 0;
+
+		while (position + length < size)
+		{
+			final ByteBuffer tail = input.map(FileChannel.MapMode.READ_ONLY, position + scanned, length - scanned);
+
+			for (int index = tail.limit() - 1; index >= 0; index--)
+			{
+				if (tail.get(index) != '\n') {
+					continue;
+				}
+
+				if (scanned == 0) {
+					return tail.slice(0, index + 1);
+				}
+
+				return input.map(FileChannel.MapMode.READ_ONLY, position, scanned + index + 1);
+			}
+
+			if (length >= maxChunkSize) {
+				throw new IOException("Линия с позиции " + position + " длиннее " + maxChunkSize + " байтов");
+			}
+
+			scanned = length;
+			length = Math.min(Math.min(length * 2, maxChunkSize), size - position);
+		}
+
+		return input.map(FileChannel.MapMode.READ_ONLY, position, length);
+	}
+
+	/**
+	 * Преобразует линии части файла в указанную нотацию.
+	 * <p>Линии записываются из отображённой части файла сразу в свободный буфер вне кучи.
+	 * Если результат не помещается в буфер, буфер заменяется буфером большего размера.</p>
+	 *
+	 * @param chunk часть файла.
+	 * @param notationType тип нотации.
+	 * @param buffers свободные буферы вне кучи.
+	 * @return буфер с преобразованными линиями, готовый к чтению.
+	 */
+	@NotNull
+	private static ByteBuffer convertChunk(@NotNull final ByteBuffer chunk,
+										   @NotNull final NotationType notationType,
+										   @NotNull final Queue<@NotNull ByteBuffer> buffers)
+	{
+		final int limit = chunk.limit();
+		ByteBuffer result = buffers.poll();
+
+		if (result == null) {
+			result = ByteBuffer.allocateDirect(Math.max(limit * 2, 64));
+		}
+
+		result.clear();
+
+		int position = 0;
+		int lineStart = 0;
+
+		while (lineStart < limit)
+		{
+			int lineEnd = lineStart;
+
+			while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+				lineEnd++;
+			}
+
+			int written = ByteConverter.convert(
+				chunk, lineStart, lineEnd, notationType, result, position, result.capacity() - 1
+			);
+
+			if (written < 0)
+			{
+				final long capacity = Math.max(result.capacity() * 2L, (long) position + ~written + 1);
+				final ByteBuffer larger = ByteBuffer.allocateDirect((int) Math.min(capacity, Integer.MAX_VALUE));
+				result = larger.put(0, result, 0, position);
+				written = ByteConverter.convert(
+					chunk, lineStart, lineEnd, notationType, result, position, result.capacity() - 1
+				);
+			}
+
+			position += written;
+
+			if (lineEnd < limit) {
+				result.put(position++, (byte) '\n');
+			}
+
+			lineStart = lineEnd + 1;
+		}
+
+		return result.limit(position);
+	}
+
+	/**
+	 * Записывает результат преобразования части файла и возвращает буфер в очередь свободных.
+	 *
+	 * @param output файл, в который записывается результат.
+	 * @param future результат преобразования части файла.
+	 * @param buffers свободные буферы вне кучи.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 * @throws InterruptedIOException если поток прерван во время ожидания результата.
+	 */
+	private static void write(@NotNull final FileChannel output,
+							  @NotNull final Future<@NotNull ByteBuffer> future,
+							  @NotNull final Queue<@NotNull ByteBuffer> buffers)
+		throws IOException
+	{
+		final ByteBuffer buffer;
+
+		try
+		{
+			buffer = future.get();
+		}
+		catch (InterruptedException exception)
+		{
+			Thread.currentThread().interrupt();
+
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException exception)
+		{
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			if (exception.getCause() instanceof Error cause) {
+				throw cause;
+			}
+
+			throw new IOException(exception.getCause());
+		}
+
+		while (buffer.hasRemaining()) {
+			output.write(buffer);
+		}
+
+		buffers.offer(buffer);
+	}
+}
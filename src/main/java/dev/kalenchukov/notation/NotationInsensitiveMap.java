@@ -0,0 +1,678 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Класс отображения, ключи которого сравниваются без учёта нотации.
+ * <p>Ключи сравниваются по {@link Notations#equalsIgnoringNotation(CharSequence, CharSequence)},
+ * поэтому {@code get("max-pool-size")}, {@code get("MAX_POOL_SIZE")} и {@code get("maxPoolSize")}
+ * находят одну и ту же запись. Сохраняется ключ, с которым запись была добавлена.</p>
+ * <p>Записи хранятся в массивах с открытой адресацией и линейным пробированием вместе
+ * с 64-битным хеш-кодом {@link Notations#notationInsensitiveHash(CharSequence)} ключа. Таблица
+ * заполняется не более чем наполовину, а ключи сравниваются по словам только при совпадении
+ * хеш-кодов, поэтому поиск не создаёт объектов. Удалённые записи помечаются и освобождаются
+ * при перестроении таблицы, что рассчитано на редкие изменения и частое чтение.</p>
+ * <p>Класс не является потокобезопасным.</p>
+ *
+ * @param <V> тип значений.
+ * @author Алексей Каленчуков
+ */
+public final class NotationInsensitiveMap<V> extends AbstractMap<String, V>
+{
+	/**
+	 * Минимальное количество ячеек таблицы.
+	 */
+	private static final int MIN_CAPACITY = 8;
+
+	/**
+	 * Метка удалённой записи.
+	 */
+	@NotNull
+	private static final Object DELETED = new Object();
+
+	/**
+	 * Хеш-коды ключей по ячейкам.
+	 */
+	private long @NotNull [] hashes;
+
+	/**
+	 * Ключи по ячейкам.
+	 * <p>Ячейка пуста, если ключ равен {@code null}, и содержит удалённую запись,
+	 * если ключ равен {@link #DELETED}.</p>
+	 */
+	private Object @NotNull [] keys;
+
+	/**
+	 * Значения по ячейкам.
+	 */
+	private Object @NotNull [] values;
+
+	/**
+	 * Количество записей.
+	 */
+	private int size;
+
+	/**
+	 * Количество ячеек с удалёнными записями.
+	 */
+	private int deleted;
+
+	/**
+	 * Количество структурных изменений.
+	 */
+	private int modificationCount;
+
+	/**
+	 * Конструктор для {@code NotationInsensitiveMap}.
+	 */
+	public NotationInsensitiveMap()
+	{
+		this(0);
+	}
+
+	/**
+	 * Конструктор для {@code NotationInsensitiveMap}.
+	 *
+	 * @param expectedSize ожидаемое количество записей.
+	 * @throws IllegalArgumentException если {@code expectedSize} меньше 0.
+	 */
+	public NotationInsensitiveMap(final int expectedSize)
+	{
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Ожидаемое количество записей не должно быть меньше 0");
+		}
+
+		this.allocate(NotationInsensitiveMap.getCapacity(expectedSize));
+	}
+
+	/**
+	 * Конструктор для {@code NotationInsensitiveMap}.
+	 * <p>Если ключи отображения равны без учёта нотации, сохраняется ключ первой записи
+	 * и значение последней.</p>
+	 *
+	 * @param map отображение, записи которого необходимо добавить.
+	 */
+	public NotationInsensitiveMap(@NotNull final Map<? extends @NotNull String, ? extends V> map)
+	{
+		this(map.size());
+
+		this.putAll(map);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Проверяет наличие записи с ключом, равным указанному без учёта нотации.
+	 *
+	 * @param key ключ.
+	 * @return {@code true}, если запись есть, иначе {@code false}.
+	 */
+	@Override
+	public boolean containsKey(@Nullable final Object key)
+	{
+		return key instanceof CharSequence sequence && this.find(sequence) >= 0;
+	}
+
+	/**
+	 * Возвращает значение записи с ключом, равным указанному без учёта нотации.
+	 *
+	 * @param key ключ.
+	 * @return значение или {@code null}, если записи нет.
+	 */
+	@Nullable
+	@Override
+	public V get(@Nullable final Object key)
+	{
+		return this.getOrDefault(key, null);
+	}
+
+	/**
+	 * Возвращает значение записи с ключом, равным указанному без учёта нотации.
+	 *
+	 * @param key ключ.
+	 * @param defaultValue значение, возвращаемое при отсутствии записи.
+	 * @return значение или {@code defaultValue}, если записи нет.
+	 */
+	@Nullable
+	@Override
+	@SuppressWarnings("unchecked")
+	public V getOrDefault(@Nullable final Object key, @Nullable final V defaultValue)
+	{
+		if (!(key instanceof CharSequence sequence)) {
+			return defaultValue;
+		}
+
+		final int index = this.find(sequence);
+
+		return index >= 0 ? (V) this.values[index] : defaultValue;
+	}
+
+	/**
+	 * Добавляет запись.
+	 * <p>Если запись с ключом, равным указанному без учёта нотации, уже есть,
+	 * заменяется её значение, а ключ остаётся прежним.</p>
+	 *
+	 * @param key ключ.
+	 * @param value значение.
+	 * @return предыдущее значение или {@code null}, если записи не было.
+	 * @throws NullPointerException если в качестве {@code key} передан {@code null}.
+	 */
+	@Nullable
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(@NotNull final String key, @Nullable final V value)
+	{
+		Objects.requireNonNull(key);
+
+		final long hash = WordComparator.hash(key);
+		final int mask = this.keys.length - 1;
+		int index = (int) hash & mask;
+		int free = -1;
+
+		while (true)
+		{
+			final Object current = this.keys[index];
+
+			if (current == null) {
+				break;
+			}
+
+			if (current == DELETED)
+			{
+				if (free < 0) {
+					free = index;
+				}
+			}
+			else if (this.hashes[index] == hash && WordComparator.equals((String) current, key))
+			{
+				final V previous = (V) this.values[index];
+
+				this.values[index] = value;
+
+				return previous;
+			}
+
+			index = (index + 1) & mask;
+		}
+
+		if (free >= 0)
+		{
+			index = free;
+			this.deleted--;
+		}
+
+		this.hashes[index] = hash;
+		this.keys[index] = key;
+		this.values[index] = value;
+		this.size++;
+		this.modificationCount++;
+
+		if ((this.size + this.deleted) * 2 > this.keys.length) {
+			this.rehash(NotationInsensitiveMap.getCapacity(this.size));
+		}
+
+		return null;
+	}
+
+	/**
+	 * Удаляет запись с ключом, равным указанному без учёта нотации.
+	 *
+	 * @param key ключ.
+	 * @return значение удалённой записи или {@code null}, если записи не было.
+	 */
+	@Nullable
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(@Nullable final Object key)
+	{
+		if (!(key instanceof CharSequence sequence)) {
+			return null;
+		}
+
+		final int index = this.find(sequence);
+
+		if (index < 0) {
+			return null;
+		}
+
+		final V previous = (V) this.values[index];
+
+		this.removeAt(index);
+
+		return previous;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear()
+	{
+		Arrays.fill(this.keys, null);
+		Arrays.fill(this.values, null);
+
+		this.size = 0;
+		this.deleted = 0;
+		this.modificationCount++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(@NotNull final BiConsumer<? super String, ? super V> action)
+	{
+		Objects.requireNonNull(action);
+
+		final int expectedModificationCount = this.modificationCount;
+
+		for (int index = 0; index < this.keys.length; index++)
+		{
+			if (this.keys[index] instanceof String key) {
+				action.accept(key, (V) this.values[index]);
+			}
+		}
+
+		if (this.modificationCount != expectedModificationCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Set<Map.@NotNull Entry<String, V>> entrySet()
+	{
+		return new EntrySet();
+	}
+
+	/**
+	 * Возвращает ячейку записи с ключом, равным указанному без учёта нотации.
+	 *
+	 * @param key ключ.
+	 * @return позицию ячейки или {@code -1}, если записи нет.
+	 */
+	private int find(@NotNull final CharSequence key)
+	{
+		final long hash = WordComparator.hash(key);
+		final int mask = this.keys.length - 1;
+		int index = (int) hash & mask;
+
+		while (true)
+		{
+			final Object current = this.keys[index];
+
+			if (current == null) {
+				return -1;
+			}
+
+			if (this.hashes[index] == hash && current != DELETED && WordComparator.equals((String) current, key)) {
+				return index;
+			}
+
+			index = (index + 1) & mask;
+		}
+	}
+
+	/**
+	 * Удаляет запись из ячейки.
+	 *
+	 * @param index позиция ячейки.
+	 */
+	private void removeAt(final int index)
+	{
+		this.keys[index] = DELETED;
+		this.values[index] = null;
+		this.size--;
+		this.deleted++;
+		this.modificationCount++;
+	}
+
+	/**
+	 * Перестраивает таблицу, освобождая ячейки удалённых записей.
+	 *
+	 * @param capacity количество ячеек новой таблицы.
+	 */
+	private void rehash(final int capacity)
+	{
+		final long[] oldHashes = this.hashes;
+		final Object[] oldKeys = this.keys;
+		final Object[] oldValues = this.values;
+
+		this.allocate(capacity);
+
+		final int mask = capacity - 1;
+
+		for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++)
+		{
+			if (oldKeys[oldIndex] == null || oldKeys[oldIndex] == DELETED) {
+				continue;
+			}
+
+			int index = (int) oldHashes[oldIndex] & mask;
+
+			while (this.keys[index] != null) {
+				index = (index + 1) & mask;
+			}
+
+			this.hashes[index] = oldHashes[oldIndex];
+			this.keys[index] = oldKeys[oldIndex];
+			this.values[index] = oldValues[oldIndex];
+		}
+
+		this.deleted = 0;
+	}
+
+	/**
+	 * Выделяет пустую таблицу.
+	 *
+	 * @param capacity количество ячеек.
+	 */
+	private void allocate(final int capacity)
+	{
+		this.hashes = new long[capacity];
+		this.keys = new Object[capacity];
+		this.values = new Object[capacity];
+	}
+
+	/**
+	 * Возвращает количество ячеек таблицы для указанного количества записей.
+	 * <p>Таблица заполняется не более чем на четверть, чтобы после перестроения
+	 * оставалось место для новых записей.</p>
+	 *
+	 * @param size количество записей.
+	 * @return степень двойки не меньше {@link #MIN_CAPACITY}.
+	 */
+	private static int getCapacity(final int size)
+	{
+		final long required = Math.max((long) size * 4, MIN_CAPACITY);
+
+		if (required > 1 << 30) {
+			throw new IllegalArgumentException("Слишком большое количество записей");
+		}
+
+		return Integer.highestOneBit((int) required - 1) << 1;
+	}
+
+	/**
+	 * Класс множества записей отображения.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<String, V>>
+	{
+		/**
+		 * {@inheritDoc}
+		 */
+		@NotNull
+		@Override
+		public Iterator<Map.@NotNull Entry<String, V>> iterator()
+		{
+			return new EntryIterator();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size()
+		{
+			return NotationInsensitiveMap.this.size;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void clear()
+		{
+			NotationInsensitiveMap.this.clear();
+		}
+	}
+
+	/**
+	 * Класс итератора записей отображения.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<String, V>>
+	{
+		/**
+		 * Позиция ячейки, с которой продолжится поиск следующей записи.
+		 */
+		private int position;
+
+		/**
+		 * Позиция ячейки последней возвращённой записи или {@code -1}.
+		 */
+		private int last = -1;
+
+		/**
+		 * Ожидаемое количество структурных изменений отображения.
+		 */
+		private int expectedModificationCount = NotationInsensitiveMap.this.modificationCount;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext()
+		{
+			final Object[] keys = NotationInsensitiveMap.this.keys;
+
+			while (this.position < keys.length && !(keys[this.position] instanceof String)) {
+				this.position++;
+			}
+
+			return this.position < keys.length;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@NotNull
+		@Override
+		public Map.Entry<String, V> next()
+		{
+			this.checkModification();
+
+			if (!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			this.last = this.position++;
+
+			return new SlotEntry(this.last);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void remove()
+		{
+			if (this.last < 0) {
+				throw new IllegalStateException();
+			}
+
+			this.checkModification();
+
+			NotationInsensitiveMap.this.removeAt(this.last);
+
+			this.last = -1;
+			this.expectedModificationCount = NotationInsensitiveMap.this.modificationCount;
+		}
+
+		/**
+		 * Проверяет, что отображение не изменялось в обход итератора.
+		 *
+		 * @throws ConcurrentModificationException если отображение изменялось.
+		 */
+		private void checkModification()
+		{
+			if (NotationInsensitiveMap.this.modificationCount != this.expectedModificationCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	/**
+	 * Класс записи отображения, изменения значения которой записываются в ячейку.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private final class SlotEntry implements Map.Entry<String, V>
+	{
+		/**
+		 * Ключ.
+		 */
+		@NotNull
+		private final String key;
+
+		/**
+		 * Позиция ячейки.
+		 */
+		private final int index;
+
+		/**
+		 * Конструктор для {@code SlotEntry}.
+		 *
+		 * @param index позиция ячейки.
+		 */
+		private SlotEntry(final int index)
+		{
+			this.key = (String) NotationInsensitiveMap.this.keys[index];
+			this.index = index;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@NotNull
+		@Override
+		public String getKey()
+		{
+			return this.key;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Nullable
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue()
+		{
+			return this.isCurrent()
+				? (V) NotationInsensitiveMap.this.values[this.index]
+				: NotationInsensitiveMap.this.get(this.key);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Nullable
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(@Nullable final V value)
+		{
+			if (!this.isCurrent()) {
+				return NotationInsensitiveMap.this.put(this.key, value);
+			}
+
+			final V previous = (V) NotationInsensitiveMap.this.values[this.index];
+
+			NotationInsensitiveMap.this.values[this.index] = value;
+
+			return previous;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean equals(@Nullable final Object object)
+		{
+			return object instanceof Map.Entry<?, ?> entry
+				&& this.key.equals(entry.getKey())
+				&& Objects.equals(this.getValue(), entry.getValue());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int hashCode()
+		{
+			return this.key.hashCode() ^ Objects.hashCode(this.getValue());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@NotNull
+		@Override
+		public String toString()
+		{
+			return this.key + "=" + this.getValue();
+		}
+
+		/**
+		 * Проверяет, что запись всё ещё находится в своей ячейке.
+		 *
+		 * @return {@code true}, если ячейка содержит ключ записи, иначе {@code false}.
+		 */
+		private boolean isCurrent()
+		{
+			final Object[] keys = NotationInsensitiveMap.this.keys;
+
+			return this.index < keys.length && keys[this.index] == this.key;
+		}
+	}
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Класс поиска составных слов указанных нотаций в тексте.
+ * <p>Текст просматривается один раз. Лексемой считается наибольшая последовательность латинских
+ * букв, цифр, символов {@literal «_»}, {@literal «-»}, {@literal «.»} и букв и цифр других алфавитов.
+ * Разделители в начале и в конце лексемы в неё не входят, поэтому точка в конце предложения
+ * не мешает найти слово перед ней.</p>
+ * <p>Каждая лексема проверяется одним совместным автоматом всех нотаций во время чтения,
+ * а не отдельным регулярным выражением для каждой нотации. Для лексемы, которая соответствует
+ * хотя бы одной из выбранных нотаций, вызывается обработчик с её позицией, длиной
+ * и битовой маской всех подходящих нотаций.</p>
+ * <p>Текст из {@link Reader} читается блоками постоянного размера, а лексемы не копируются,
+ * поэтому расход памяти не зависит от размера текста.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class NotationScanner
+{
+	/**
+	 * Размер буфера чтения.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Символ не входит в лексемы.
+	 */
+	static final byte NONE = 0;
+
+	/**
+	 * Символ является буквой или цифрой.
+	 */
+	static final byte WORD = 1;
+
+	/**
+	 * Символ является разделителем и входит в лексему только между буквами и цифрами.
+	 */
+	static final byte SEPARATOR = 2;
+
+	/**
+	 * Виды символов ASCII.
+	 */
+	private static final byte @NotNull [] KINDS = new byte[128];
+
+	/**
+	 * Битовая маска выбранных нотаций.
+	 */
+	private final int mask;
+
+	static
+	{
+		for (int index = 0; index < KINDS.length; index++)
+		{
+			KINDS[index] = switch (Automaton.getCharClass((char) index))
+			{
+				case Automaton.LOWER, Automaton.UPPER, Automaton.DIGIT -> WORD;
+				case Automaton.UNDERSCORE, Automaton.HYPHEN, Automaton.DOT -> SEPARATOR;
+				default -> NONE;
+			};
+		}
+	}
+
+	/**
+	 * Конструктор для {@code NotationScanner}.
+	 * <p>Ищутся составные слова всех нотаций.</p>
+	 */
+	public NotationScanner()
+	{
+		this(EnumSet.allOf(NotationType.class));
+	}
+
+	/**
+	 * Конструктор для {@code NotationScanner}.
+	 *
+	 * @param notationTypes нотации, составные слова которых необходимо найти.
+	 * @throws NullPointerException если в качестве {@code notationTypes} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code notationTypes} не содержит ни одной нотации.
+	 */
+	public NotationScanner(@NotNull final Set<@NotNull NotationType> notationTypes)
+	{
+		Objects.requireNonNull(notationTypes);
+
+		if (notationTypes.isEmpty()) {
+			throw new IllegalArgumentException("Необходимо указать хотя бы одну нотацию");
+		}
+
+		int notationMask = 0;
+
+		for (NotationType notationType : notationTypes) {
+			notationMask |= 1 << notationType.ordinal();
+		}
+
+		this.mask = notationMask;
+	}
+
+	/**
+	 * Ищет составные слова в строке.
+	 *
+	 * @param value строка.
+	 * @param handler обработчик найденных составных слов.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code handler} передан {@code null}.
+	 */
+	public void scan(@NotNull final CharSequence value, @NotNull final MatchHandler handler)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(handler);
+
+		final Scan scan = new Scan(handler);
+		final int length = value.length();
+
+		for (int index = 0; index < length; index++) {
+			scan.accept(value.charAt(index));
+		}
+
+		scan.finish();
+	}
+
+	/**
+	 * Ищет составные слова в тексте.
+	 * <p>Позиции отсчитываются в символах от начала текста.
+	 * Объект {@code reader} не закрывается.</p>
+	 *
+	 * @param reader объект, из которого читается текст.
+	 * @param handler обработчик найденных составных слов.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 * @throws NullPointerException если в качестве {@code reader} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code handler} передан {@code null}.
+	 */
+	public void scan(@NotNull final Reader reader, @NotNull final MatchHandler handler)
+		throws IOException
+	{
+		this.scan(reader, handler, BUFFER_SIZE);
+	}
+
+	/**
+	 * Ищет составные слова в тексте, читая его блоками указанного размера.
+	 *
+	 * @param reader объект, из которого читается текст.
+	 * @param handler обработчик найденных составных слов.
+	 * @param bufferSize размер блока чтения в символах.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	void scan(@NotNull final Reader reader, @NotNull final MatchHandler handler, final int bufferSize)
+		throws IOException
+	{
+		Objects.requireNonNull(reader);
+		Objects.requireNonNull(handler);
+
+		final Scan scan = new Scan(handler);
+		final char[] buffer = new char[bufferSize];
+		int count;
+
+		while ((count = reader.read(buffer)) >= 0)
+		{
+			for (int index = 0; index < count; index++) {
+				scan.accept(buffer[index]);
+			}
+		}
+
+		scan.finish();
+	}
+
+	/**
+	 * Возвращает вид символа.
+	 *
+	 * @param symbol символ.
+	 * @return {@link #WORD}, {@link #SEPARATOR} или {@link #NONE}.
+	 */
+	static byte getKind(final char symbol)
+	{
+		if (symbol < KINDS.length) {
+			return KINDS[symbol];
+		}
+
+		return Character.isLetterOrDigit(symbol) ? WORD : NONE;
+	}
+
+	/**
+	 * Интерфейс обработчика найденных составных слов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@FunctionalInterface
+	public interface MatchHandler
+	{
+		/**
+		 * Обрабатывает найденное составное слово.
+		 *
+		 * @param offset позиция начала составного слова в тексте.
+		 * @param length длина составного слова.
+		 * @param mask битовая маска, в которой бит с номером {@link NotationType#ordinal()} установлен,
+		 * если составное слово соответствует нотации. Содержит только выбранные нотации.
+		 */
+		void accept(long offset, long length, int mask);
+	}
+
+	/**
+	 * Класс состояния просмотра текста.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private final class Scan
+	{
+		/**
+		 * Обработчик найденных составных слов.
+		 */
+		@NotNull
+		private final MatchHandler handler;
+
+		/**
+		 * Позиция следующего символа.
+		 */
+		private long position;
+
+		/**
+		 * Позиция начала текущей лексемы или {@code -1}, если символ не входит в лексему.
+		 */
+		private long start = -1;
+
+		/**
+		 * Состояние совместного автомата.
+		 */
+		private int state;
+
+		/**
+		 * Состояние совместного автомата после последней буквы или цифры лексемы.
+		 */
+		private int wordState;
+
+		/**
+		 * Позиция после последней буквы или цифры лексемы.
+		 */
+		private long wordEnd;
+
+		/**
+		 * Конструктор для {@code Scan}.
+		 *
+		 * @param handler обработчик найденных составных слов.
+		 */
+		private Scan(@NotNull final MatchHandler handler)
+		{
+			this.handler = handler;
+		}
+
+		/**
+		 * Обрабатывает символ.
+		 *
+		 * @param symbol символ.
+		 */
+		private void accept(final char symbol)
+		{
+			final byte kind = NotationScanner.getKind(symbol);
+
+			if (kind == WORD)
+			{
+				if (this.start < 0)
+				{
+					this.start = this.position;
+					this.state = 0;
+				}
+
+				this.state = Automaton.nextCombinedState(this.state, Automaton.getCharClass(symbol));
+				this.wordState = this.state;
+				this.wordEnd = this.position + 1;
+			}
+			else if (kind == SEPARATOR)
+			{
+				if (this.start >= 0) {
+					this.state = Automaton.nextCombinedState(this.state, Automaton.getCharClass(symbol));
+				}
+			}
+			else {
+				this.finish();
+			}
+
+			this.position++;
+		}
+
+		/**
+		 * Завершает текущую лексему.
+		 */
+		private void finish()
+		{
+			if (this.start < 0) {
+				return;
+			}
+
+			final int matches = Automaton.getCombinedMatches(this.wordState) & NotationScanner.this.mask;
+
+			if (matches != 0) {
+				this.handler.accept(this.start, this.wordEnd - this.start, matches);
+			}
+
+			this.start = -1;
+		}
+	}
+}
@@ -0,0 +1,512 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Класс префиксного дерева составных слов для поиска без учёта нотации.
+ * <p>Составные слова разбиваются на слова по тем же правилам, что и при изменении нотации,
+ * и индексируются по последовательности слов без учёта регистра. Поэтому запросы
+ * {@code user_acc} и {@code userAcc} находят {@code userAccountId}, {@code USER_ACCOUNT}
+ * и {@code user-access} независимо от нотации, в которой они записаны.</p>
+ * <p>Каждый узел дерева соответствует слову. Узлы хранятся в массивах целых чисел в порядке
+ * обхода в ширину, поэтому дочерние узлы каждого узла идут подряд и упорядочены. Составные слова
+ * хранятся в одном массиве, отсортированном без учёта нотации, и каждому узлу соответствует
+ * непрерывный диапазон этого массива. Слово узла не копируется, а задаётся позициями
+ * в первом составном слове его диапазона.</p>
+ * <p>Разбор и сортировка составных слов при построении выполняются параллельно.
+ * Построенное дерево не изменяется и может использоваться из нескольких потоков.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class NotationTrie
+{
+	/**
+	 * Номер корневого узла.
+	 */
+	private static final int ROOT = 0;
+
+	/**
+	 * Составные слова, отсортированные без учёта нотации.
+	 */
+	@NotNull
+	private final String @NotNull [] values;
+
+	/**
+	 * Номера первых дочерних узлов.
+	 * <p>Дочерние узлы узла {@code i} имеют номера от {@code children[i]} включительно
+	 * до {@code children[i + 1]} не включительно.</p>
+	 */
+	private final int @NotNull [] children;
+
+	/**
+	 * Начала диапазонов составных слов узлов в {@link #values} включительно.
+	 */
+	private final int @NotNull [] firsts;
+
+	/**
+	 * Концы диапазонов составных слов узлов в {@link #values} не включительно.
+	 */
+	private final int @NotNull [] ends;
+
+	/**
+	 * Позиции начала слов узлов в первом составном слове диапазона включительно.
+	 */
+	private final int @NotNull [] wordStarts;
+
+	/**
+	 * Позиции конца слов узлов в первом составном слове диапазона не включительно.
+	 */
+	private final int @NotNull [] wordEnds;
+
+	/**
+	 * Конструктор для {@code NotationTrie}.
+	 *
+	 * @param values составные слова.
+	 * @throws NullPointerException если в качестве {@code values} передан {@code null}.
+	 * @throws NullPointerException если {@code values} содержит {@code null}.
+	 */
+	public NotationTrie(@NotNull final Collection<? extends @NotNull CharSequence> values)
+	{
+		Objects.requireNonNull(values);
+
+		final ParsedIdentifier[] identifiers = values.parallelStream()
+			.map(value -> ParsedIdentifier.parse(Objects.requireNonNull(value)))
+			.toArray(ParsedIdentifier[]::new);
+
+		Arrays.parallelSort(identifiers, NotationTrie::compare);
+
+		this.values = new String[identifiers.length];
+
+		for (int index = 0; index < identifiers.length; index++) {
+			this.values[index] = identifiers[index].toString();
+		}
+
+		final Builder builder = new Builder(identifiers);
+
+		builder.build();
+
+		this.children = Arrays.copyOf(builder.children, builder.size + 1);
+		this.firsts = Arrays.copyOf(builder.firsts, builder.size);
+		this.ends = Arrays.copyOf(builder.ends, builder.size);
+		this.wordStarts = Arrays.copyOf(builder.wordStarts, builder.size);
+		this.wordEnds = Arrays.copyOf(builder.wordEnds, builder.size);
+	}
+
+	/**
+	 * Возвращает количество составных слов.
+	 *
+	 * @return количество составных слов.
+	 */
+	public int size()
+	{
+		return this.values.length;
+	}
+
+	/**
+	 * Возвращает количество узлов дерева.
+	 *
+	 * @return количество узлов, включая корневой.
+	 */
+	public int getNodeCount()
+	{
+		return this.firsts.length;
+	}
+
+	/**
+	 * Возвращает составные слова, которые начинаются с указанного префикса без учёта нотации.
+	 * <p>Префикс разбивается на слова. Все слова, кроме последнего, должны совпадать со словами
+	 * составного слова без учёта регистра, а последнее слово может быть началом слова.
+	 * Разделитель в конце префикса завершает последнее слово: запрос {@code user_} находит
+	 * {@code userId}, но не {@code user} и не {@code username}. Прописная буква в конце префикса после строчной
+	 * начинает новое слово: запрос {@code userA} находит {@code userAccountId}, но не {@code useradmin}.
+	 * Пустой префикс находит все составные слова.</p>
+	 *
+	 * @param prefix префикс.
+	 * @return неизменяемое представление найденных составных слов в порядке без учёта нотации.
+	 * @throws NullPointerException если в качестве {@code prefix} передан {@code null}.
+	 */
+	@NotNull
+	public List<@NotNull String> find(@NotNull final CharSequence prefix)
+	{
+		Objects.requireNonNull(prefix);
+
+		final int length = prefix.length();
+		final boolean completed = length > 1
+			&& Segmenter.isSeparator(prefix.charAt(length - 1))
+			&& Segmenter.isLetterOrDigit(prefix.charAt(length - 2));
+
+		final boolean split = length > 1
+			&& Automaton.getCharClass(prefix.charAt(length - 1)) == Automaton.UPPER
+			&& Automaton.getCharClass(prefix.charAt(length - 2)) == Automaton.LOWER;
+
+		final ParsedIdentifier query = ParsedIdentifier.parse(
+			completed || split ? prefix.subSequence(0, length - 1) : prefix
+		);
+
+		if (query.getWordCount() == 0) {
+			return Collections.unmodifiableList(Arrays.asList(this.values));
+		}
+
+		final String queryValue = split ? prefix.toString() : query.toString();
+		final int fullWordCount = completed || split ? query.getWordCount() : query.getWordCount() - 1;
+		int node = ROOT;
+
+		for (int word = 0; word < fullWordCount; word++)
+		{
+			node = this.findChild(node, queryValue, query.getStart(word), query.getEnd(word));
+
+			if (node < 0) {
+				return List.of();
+			}
+		}
+
+		int partialStart = 0;
+		int partialEnd = 0;
+
+		if (split)
+		{
+			partialStart = length - 1;
+			partialEnd = length;
+		}
+		else if (!completed)
+		{
+			partialStart = query.getStart(fullWordCount);
+			partialEnd = query.getEnd(fullWordCount);
+		}
+		final int from = this.lowerBound(node, queryValue, partialStart, partialEnd);
+		final int to = this.upperBound(node, queryValue, partialStart, partialEnd);
+
+		if (from >= to) {
+			return List.of();
+		}
+
+		return Collections.unmodifiableList(Arrays.asList(this.values).subList(this.firsts[from], this.ends[to - 1]));
+	}
+
+	/**
+	 * Возвращает дочерний узел, слово которого равно указанному без учёта регистра.
+	 *
+	 * @param node узел.
+	 * @param value строка со словом.
+	 * @param start позиция начала слова включительно.
+	 * @param end позиция конца слова не включительно.
+	 * @return номер дочернего узла или {@code -1}, если такого узла нет.
+	 */
+	private int findChild(final int node, @NotNull final String value, final int start, final int end)
+	{
+		final int child = this.lowerBound(node, value, start, end);
+
+		if (child < this.children[node + 1] && this.compareWord(child, value, start, end, Integer.MAX_VALUE) == 0) {
+			return child;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Возвращает первый дочерний узел, слово которого не меньше указанного.
+	 *
+	 * @param node узел.
+	 * @param value строка со словом.
+	 * @param start позиция начала слова включительно.
+	 * @param end позиция конца слова не включительно.
+	 * @return номер дочернего узла или номер, следующий за последним дочерним узлом.
+	 */
+	private int lowerBound(final int node, @NotNull final String value, final int start, final int end)
+	{
+		int low = this.children[node];
+		int high = this.children[node + 1];
+
+		while (low < high)
+		{
+			final int middle = (low + high) >>> 1;
+
+			if (this.compareWord(middle, value, start, end, Integer.MAX_VALUE) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Возвращает первый дочерний узел, слово которого больше указанного и не начинается с него.
+	 *
+	 * @param node узел.
+	 * @param value строка со словом.
+	 * @param start позиция начала слова включительно.
+	 * @param end позиция конца слова не включительно.
+	 * @return номер дочернего узла или номер, следующий за последним дочерним узлом.
+	 */
+	private int upperBound(final int node, @NotNull final String value, final int start, final int end)
+	{
+		int low = this.children[node];
+		int high = this.children[node + 1];
+
+		while (low < high)
+		{
+			final int middle = (low + high) >>> 1;
+
+			if (this.compareWord(middle, value, start, end, end - start) <= 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Сравнивает начало слова узла со словом без учёта регистра.
+	 *
+	 * @param node узел.
+	 * @param value строка со словом.
+	 * @param start позиция начала слова включительно.
+	 * @param end позиция конца слова не включительно.
+	 * @param limit максимальное количество сравниваемых символов слова узла.
+	 * @return отрицательное число, ноль или положительное число, если начало слова узла меньше,
+	 * равно или больше слова.
+	 */
+	private int compareWord(final int node,
+							@NotNull final String value,
+							final int start,
+							final int end,
+							final int limit)
+	{
+		final int wordStart = this.wordStarts[node];
+		final int wordEnd = (int) Math.min(this.wordEnds[node], (long) wordStart + limit);
+
+		return WordComparator.compareWords(this.values[this.firsts[node]], wordStart, wordEnd, value, start, end);
+	}
+
+	/**
+	 * Сравнивает разобранные составные слова без учёта нотации.
+	 *
+	 * @param identifier составное слово.
+	 * @param other составное слово.
+	 * @return отрицательное число, ноль или положительное число, если {@code identifier} меньше,
+	 * равно или больше {@code other}.
+	 * @see WordComparator#compare(CharSequence, CharSequence)
+	 */
+	private static int compare(@NotNull final ParsedIdentifier identifier, @NotNull final ParsedIdentifier other)
+	{
+		final int wordCount = Math.min(identifier.getWordCount(), other.getWordCount());
+
+		for (int word = 0; word < wordCount; word++)
+		{
+			final int comparison = WordComparator.compareWords(
+				identifier.toString(), identifier.getStart(word), identifier.getEnd(word),
+				other.toString(), other.getStart(word), other.getEnd(word)
+			);
+
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+
+		return identifier.getWordCount() - other.getWordCount();
+	}
+
+	/**
+	 * Класс построения узлов дерева обходом в ширину.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private static final class Builder
+	{
+		/**
+		 * Составные слова, отсортированные без учёта нотации.
+		 */
+		@NotNull
+		private final ParsedIdentifier @NotNull [] identifiers;
+
+		/**
+		 * Номера первых дочерних узлов.
+		 */
+		private int @NotNull [] children;
+
+		/**
+		 * Начала диапазонов составных слов узлов.
+		 */
+		private int @NotNull [] firsts;
+
+		/**
+		 * Концы диапазонов составных слов узлов.
+		 */
+		private int @NotNull [] ends;
+
+		/**
+		 * Позиции начала слов узлов.
+		 */
+		private int @NotNull [] wordStarts;
+
+		/**
+		 * Позиции конца слов узлов.
+		 */
+		private int @NotNull [] wordEnds;
+
+		/**
+		 * Глубины узлов.
+		 */
+		private int @NotNull [] depths;
+
+		/**
+		 * Количество узлов.
+		 */
+		private int size;
+
+		/**
+		 * Конструктор для {@code Builder}.
+		 *
+		 * @param identifiers составные слова, отсортированные без учёта нотации.
+		 */
+		private Builder(@NotNull final ParsedIdentifier @NotNull [] identifiers)
+		{
+			this.identifiers = identifiers;
+
+			final int capacity = identifiers.length + 2;
+
+			this.children = new int[capacity];
+			this.firsts = new int[capacity];
+			this.ends = new int[capacity];
+			this.wordStarts = new int[capacity];
+			this.wordEnds = new int[capacity];
+			this.depths = new int[capacity];
+		}
+
+		/**
+		 * Строит узлы дерева.
+		 * <p>Узлы обрабатываются в порядке создания. Составные слова диапазона узла глубины {@code d},
+		 * у которых больше {@code d} слов, группируются по слову с номером {@code d}, и каждая группа
+		 * становится дочерним узлом. Составные слова, у которых ровно {@code d} слов,
+		 * идут в начале диапазона и дочерних узлов не образуют.</p>
+		 */
+		private void build()
+		{
+			this.add(0, this.identifiers.length, 0, 0, 0);
+
+			for (int node = 0; node < this.size; node++)
+			{
+				final int depth = this.depths[node];
+				final int end = this.ends[node];
+				int index = this.firsts[node];
+
+				this.children[node] = this.size;
+
+				while (index < end && this.identifiers[index].getWordCount() == depth) {
+					index++;
+				}
+
+				while (index < end)
+				{
+					final ParsedIdentifier first = this.identifiers[index];
+					final int groupStart = index;
+
+					index++;
+
+					while (index < end && this.isSameWord(first, this.identifiers[index], depth)) {
+						index++;
+					}
+
+					this.add(groupStart, index, first.getStart(depth), first.getEnd(depth), depth + 1);
+				}
+			}
+
+			this.ensureCapacity(this.size + 1);
+			this.children[this.size] = this.size;
+		}
+
+		/**
+		 * Проверяет равенство слов составных слов без учёта регистра.
+		 *
+		 * @param identifier составное слово.
+		 * @param other составное слово.
+		 * @param word номер слова.
+		 * @return {@code true}, если слова равны, иначе {@code false}.
+		 */
+		private boolean isSameWord(@NotNull final ParsedIdentifier identifier,
+								   @NotNull final ParsedIdentifier other,
+								   final int word)
+		{
+			return WordComparator.compareWords(
+				identifier.toString(), identifier.getStart(word), identifier.getEnd(word),
+				other.toString(), other.getStart(word), other.getEnd(word)
+			) == 0;
+		}
+
+		/**
+		 * Добавляет узел.
+		 *
+		 * @param first начало диапазона составных слов включительно.
+		 * @param end конец диапазона составных слов не включительно.
+		 * @param wordStart позиция начала слова в первом составном слове диапазона.
+		 * @param wordEnd позиция конца слова в первом составном слове диапазона.
+		 * @param depth глубина узла.
+		 */
+		private void add(final int first, final int end, final int wordStart, final int wordEnd, final int depth)
+		{
+			this.ensureCapacity(this.size + 1);
+
+			this.firsts[this.size] = first;
+			this.ends[this.size] = end;
+			this.wordStarts[this.size] = wordStart;
+			this.wordEnds[this.size] = wordEnd;
+			this.depths[this.size] = depth;
+			this.size++;
+		}
+
+		/**
+		 * Увеличивает массивы узлов.
+		 *
+		 * @param capacity требуемое количество узлов.
+		 */
+		private void ensureCapacity(final int capacity)
+		{
+			if (capacity <= this.firsts.length) {
+				return;
+			}
+
+			final int newCapacity = Math.max(capacity, this.firsts.length + (this.firsts.length >> 1));
+
+			this.children = Arrays.copyOf(this.children, newCapacity);
+			this.firsts = Arrays.copyOf(this.firsts, newCapacity);
+			this.ends = Arrays.copyOf(this.ends, newCapacity);
+			this.wordStarts = Arrays.copyOf(this.wordStarts, newCapacity);
+			this.wordEnds = Arrays.copyOf(this.wordEnds, newCapacity);
+			this.depths = Arrays.copyOf(this.depths, newCapacity);
+		}
+	}
+}
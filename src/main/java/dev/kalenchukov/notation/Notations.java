@@ -24,16 +24,29 @@
 
 package dev.kalenchukov.notation;
 
-import dev.kalenchukov.notation.resources.SeparatorType;
-import dev.kalenchukov.notation.resources.Regexp;
 import dev.kalenchukov.notation.resources.NotationType;
-import dev.kalenchukov.stringi.Stringi;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Класс содержит статические методы для нотации составных слов.
@@ -42,11 +55,6 @@ import java.util.regex.Pattern;
  */
 public final class Notations
 {
-	/**
-	 * Абстрактный разделитель слов.
-	 */
-	private static final String ABSTRACT_SEPARATOR = "+";
-
 	/**
 	 * Конструктор для {@code Notations}.
 	 */
@@ -79,6 +87,24 @@ public final class Notations
 		};
 	}
 
+	/**
+	 * Проверяет соответствие строки указанной нотации.
+	 *
+	 * @param value строка, нотацию которой необходимо проверить.
+	 * @param notationType тип нотации.
+	 * @return {@code true}, если {@code value} соответствует {@code notationType}, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 *
+	 */
+	public static boolean is(@NotNull final CharSequence value, @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+
+		return Automaton.matches(value, notationType);
+	}
+
 	/**
 	 * Проверяет соответствие строки нотации Upper Case.
 	 *
@@ -90,7 +116,21 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.is(value, Regexp.UPPER_CASE);
+		return Automaton.matches(value, NotationType.UPPER_CASE);
+	}
+
+	/**
+	 * Проверяет соответствие строки нотации Upper Case.
+	 *
+	 * @param value строка.
+	 * @return {@code true}, если {@code value} соответствует нотации Upper Case, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	public static boolean isUpperCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Automaton.matches(value, NotationType.UPPER_CASE);
 	}
 
 	/**
@@ -104,7 +144,21 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.is(value, Regexp.KEBAB_CASE);
+		return Automaton.matches(value, NotationType.KEBAB_CASE);
+	}
+
+	/**
+	 * Проверяет соответствие строки нотации Kebab Case.
+	 *
+	 * @param value строка.
+	 * @return {@code true}, если {@code value} соответствует нотации Kebab Case, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	public static boolean isKebabCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Automaton.matches(value, NotationType.KEBAB_CASE);
 	}
 
 	/**
@@ -118,7 +172,21 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.is(value, Regexp.SNAKE_CASE);
+		return Automaton.matches(value, NotationType.SNAKE_CASE);
+	}
+
+	/**
+	 * Проверяет соответствие строки нотации Snake Case.
+	 *
+	 * @param value строка.
+	 * @return {@code true}, если {@code value} соответствует нотации Snake Case, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	public static boolean isSnakeCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Automaton.matches(value, NotationType.SNAKE_CASE);
 	}
 
 	/**
@@ -132,7 +200,21 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.is(value, Regexp.CAMEL_CASE);
+		return Automaton.matches(value, NotationType.CAMEL_CASE);
+	}
+
+	/**
+	 * Проверяет соответствие строки нотации Camel Case.
+	 *
+	 * @param value строка.
+	 * @return {@code true}, если {@code value} соответствует нотации Camel Case, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	public static boolean isCamelCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Automaton.matches(value, NotationType.CAMEL_CASE);
 	}
 
 	/**
@@ -146,7 +228,21 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.is(value, Regexp.PASCAL_CASE);
+		return Automaton.matches(value, NotationType.PASCAL_CASE);
+	}
+
+	/**
+	 * Проверяет соответствие строки нотации Pascal Case.
+	 *
+	 * @param value строка.
+	 * @return {@code true}, если {@code value} соответствует нотации Pascal Case, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	public static boolean isPascalCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Automaton.matches(value, NotationType.PASCAL_CASE);
 	}
 
 	/**
@@ -160,7 +256,21 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.is(value, Regexp.DOT_CASE);
+		return Automaton.matches(value, NotationType.DOT_CASE);
+	}
+
+	/**
+	 * Проверяет соответствие строки нотации Dot Case.
+	 *
+	 * @param value строка.
+	 * @return {@code true}, если {@code value} соответствует нотации Dot Case, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	public static boolean isDotCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Automaton.matches(value, NotationType.DOT_CASE);
 	}
 
 	/**
@@ -174,11 +284,203 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.is(value, Regexp.TRAIN_CASE);
+		return Automaton.matches(value, NotationType.TRAIN_CASE);
+	}
+
+	/**
+	 * Проверяет соответствие строки нотации Train Case.
+	 *
+	 * @param value строка.
+	 * @return {@code true}, если {@code value} соответствует нотации Train Case, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	public static boolean isTrainCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Automaton.matches(value, NotationType.TRAIN_CASE);
+	}
+
+	/**
+	 * Проверяет соответствие строк указанной нотации.
+	 *
+	 * @param values строки, нотацию которых необходимо проверить.
+	 * @param notationType тип нотации.
+	 * @return массив, в котором элемент равен {@code true}, если строка с тем же индексом
+	 * в {@code values} соответствует {@code notationType}, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code values} передан {@code null}.
+	 * @throws NullPointerException если в {@code values} содержится {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 */
+	public static boolean @NotNull [] isAll(final String @NotNull [] values, @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(values);
+		Objects.requireNonNull(notationType);
+
+		return Notations.isAll(Arrays.asList(values), notationType);
+	}
+
+	/**
+	 * Проверяет соответствие строк указанной нотации.
+	 *
+	 * @param values строки, нотацию которых необходимо проверить.
+	 * @param notationType тип нотации.
+	 * @return массив, в котором элемент равен {@code true}, если строка с тем же индексом
+	 * в {@code values} соответствует {@code notationType}, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code values} передан {@code null}.
+	 * @throws NullPointerException если в {@code values} содержится {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 */
+	public static boolean @NotNull [] isAll(@NotNull final List<@NotNull ? extends CharSequence> values,
+											@NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(values);
+		Objects.requireNonNull(notationType);
+
+		final boolean[] results = new boolean[values.size()];
+		int index = 0;
+
+		for (CharSequence value : values) {
+			results[index++] = Automaton.matches(value, notationType);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Возвращает все нотации, которым соответствует строка.
+	 * <p>Строка проверяется на соответствие всем нотациям за один проход.</p>
+	 *
+	 * @param value строка, нотации которой необходимо определить.
+	 * @return набор нотаций, которым соответствует {@code value}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	@NotNull
+	public static Set<@NotNull NotationType> detect(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Automaton.toNotationTypes(Automaton.detect(value));
+	}
+
+	/**
+	 * Разбирает строку на слова.
+	 * <p>Полученное составное слово можно преобразовать в любую нотацию без повторного разбора.</p>
+	 *
+	 * @param value строка, которую необходимо разобрать.
+	 * @return составное слово с найденными границами слов.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	@NotNull
+	public static ParsedIdentifier parse(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return ParsedIdentifier.parse(value);
+	}
+
+	/**
+	 * Возвращает курсор обхода слов строки.
+	 * <p>Слова возвращаются как позиции в {@code value} без копирования символов.</p>
+	 *
+	 * @param value строка, слова которой необходимо обойти.
+	 * @return курсор, установленный перед первым словом.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	@NotNull
+	public static WordCursor words(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return new WordCursor(value);
+	}
+
+	/**
+	 * Возвращает поток слов строки.
+	 * <p>Каждое слово является представлением части {@code value} без копирования символов.</p>
+	 *
+	 * @param value строка, слова которой необходимо получить.
+	 * @return поток слов.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	@NotNull
+	public static Stream<@NotNull CharSequence> wordStream(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		final WordCursor cursor = new WordCursor(value);
+
+		return StreamSupport.stream(
+			new Spliterators.AbstractSpliterator<CharSequence>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL)
+			{
+				@Override
+				public boolean tryAdvance(@NotNull final Consumer<? super CharSequence> action)
+				{
+					if (!cursor.next()) {
+						return false;
+					}
+
+					action.accept(cursor.getWord());
+
+					return true;
+				}
+			},
+			false
+		);
+	}
+
+	/**
+	 * Проверяет равенство строк без учёта нотации.
+	 * <p>Строки равны, если равны их последовательности слов без учёта регистра,
+	 * то есть если равны их записи в нотации Snake Case. Например, {@code userId},
+	 * {@code user_id} и {@code USER-ID} равны. Преобразованные строки при этом не создаются.</p>
+	 *
+	 * @param value строка.
+	 * @param other строка.
+	 * @return {@code true}, если строки равны без учёта нотации, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code other} передан {@code null}.
+	 */
+	public static boolean equalsIgnoringNotation(@NotNull final CharSequence value, @NotNull final CharSequence other)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(other);
+
+		return WordComparator.equals(value, other);
+	}
+
+	/**
+	 * Возвращает компаратор строк без учёта нотации.
+	 * <p>Компаратор согласован с {@link #equalsIgnoringNotation(CharSequence, CharSequence)}:
+	 * строки сравниваются по словам, символы которых приведены к строчным буквам.</p>
+	 *
+	 * @return компаратор строк.
+	 */
+	@NotNull
+	public static Comparator<@NotNull CharSequence> notationInsensitiveOrder()
+	{
+		return WordComparator.INSTANCE;
+	}
+
+	/**
+	 * Возвращает 64-битный хеш-код строки без учёта нотации.
+	 * <p>Строки, равные по {@link #equalsIgnoringNotation(CharSequence, CharSequence)},
+	 * имеют равные хеш-коды.</p>
+	 *
+	 * @param value строка.
+	 * @return хеш-код.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	public static long notationInsensitiveHash(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return WordComparator.hash(value);
 	}
 
 	/**
 	 * Возвращает строку в указанной нотации.
+	 * <p>Если {@code value} уже записана в указанной нотации, возвращается тот же объект строки.</p>
 	 *
 	 * @param value строка, нотацию которой необходимо изменить.
 	 * @param notationType тип нотации.
@@ -205,6 +507,439 @@ public final class Notations
 			};
 	}
 
+	/**
+	 * Возвращает строку в указанной нотации.
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @return строку в указанной нотации.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 *
+	 */
+	@NotNull
+	public static String to(@NotNull final CharSequence value, @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+
+		return Converter.convert(value, notationType);
+	}
+
+	/**
+	 * Возвращает строки в указанной нотации.
+	 * <p>Одинаковые строки преобразуются один раз.</p>
+	 *
+	 * @param values строки, нотацию которых необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @return строки в указанной нотации в порядке {@code values}.
+	 * @throws NullPointerException если в качестве {@code values} передан {@code null}.
+	 * @throws NullPointerException если в {@code values} содержится {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 */
+	@NotNull
+	public static String @NotNull [] toAll(final String @NotNull [] values, @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(values);
+		Objects.requireNonNull(notationType);
+
+		return Converter.convertAll(values, notationType);
+	}
+
+	/**
+	 * Возвращает строки в указанной нотации.
+	 * <p>Одинаковые строки преобразуются один раз.</p>
+	 *
+	 * @param values строки, нотацию которых необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @return неизменяемый список строк в указанной нотации в порядке {@code values}.
+	 * @throws NullPointerException если в качестве {@code values} передан {@code null}.
+	 * @throws NullPointerException если в {@code values} содержится {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 */
+	@NotNull
+	public static List<@NotNull String> toAll(@NotNull final List<@NotNull String> values,
+											  @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(values);
+		Objects.requireNonNull(notationType);
+
+		return List.of(Converter.convertAll(values.toArray(String[]::new), notationType));
+	}
+
+	/**
+	 * Возвращает строки в указанной нотации, преобразуя их параллельно.
+	 * <p>Массив делится на части, которые преобразуются задачами {@code pool}.</p>
+	 *
+	 * @param values строки, нотацию которых необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @param pool пул потоков, в котором выполняется преобразование.
+	 * @return строки в указанной нотации в порядке {@code values}.
+	 * @throws NullPointerException если в качестве {@code values} передан {@code null}.
+	 * @throws NullPointerException если в {@code values} содержится {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code pool} передан {@code null}.
+	 */
+	@NotNull
+	public static String @NotNull [] parallelTo(final String @NotNull [] values,
+												@NotNull final NotationType notationType,
+												@NotNull final ForkJoinPool pool)
+	{
+		Objects.requireNonNull(values);
+		Objects.requireNonNull(notationType);
+		Objects.requireNonNull(pool);
+
+		final String[] results = new String[values.length];
+		pool.invoke(new ConvertTask(values, 0, values.length, notationType, results));
+
+		return results;
+	}
+
+	/**
+	 * Возвращает строки в указанной нотации, преобразуя их параллельно.
+	 * <p>Коллекция делится на части, которые преобразуются задачами {@code pool}.</p>
+	 *
+	 * @param values строки, нотацию которых необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @param pool пул потоков, в котором выполняется преобразование.
+	 * @return неизменяемый список строк в указанной нотации в порядке обхода {@code values}.
+	 * @throws NullPointerException если в качестве {@code values} передан {@code null}.
+	 * @throws NullPointerException если в {@code values} содержится {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code pool} передан {@code null}.
+	 */
+	@NotNull
+	public static List<@NotNull String> parallelTo(@NotNull final Collection<@NotNull String> values,
+												   @NotNull final NotationType notationType,
+												   @NotNull final ForkJoinPool pool)
+	{
+		Objects.requireNonNull(values);
+		Objects.requireNonNull(notationType);
+		Objects.requireNonNull(pool);
+
+		final String[] results = Notations.parallelTo(values.toArray(String[]::new), notationType, pool);
+
+		return Collections.unmodifiableList(Arrays.asList(results));
+	}
+
+	/**
+	 * Добавляет строку в указанной нотации в {@code destination}.
+	 * <p>Результат записывается посимвольно без создания промежуточных строк.</p>
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @param destination объект, в который добавляется строка в указанной нотации.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code destination} передан {@code null}.
+	 * @throws IOException если произошла ошибка ввода-вывода в {@code destination}.
+	 */
+	public static void to(@NotNull final CharSequence value,
+						  @NotNull final NotationType notationType,
+						  @NotNull final Appendable destination)
+		throws IOException
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+		Objects.requireNonNull(destination);
+
+		Converter.convert(value, 0, value.length(), notationType, destination);
+	}
+
+	/**
+	 * Добавляет строку в указанной нотации в {@code destination}.
+	 * <p>Результат записывается посимвольно без создания промежуточных строк.</p>
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @param destination объект, в который добавляется строка в указанной нотации.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code destination} передан {@code null}.
+	 */
+	public static void to(@NotNull final CharSequence value,
+						  @NotNull final NotationType notationType,
+						  @NotNull final StringBuilder destination)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+		Objects.requireNonNull(destination);
+
+		try {
+			Converter.convert(value, 0, value.length(), notationType, destination);
+		}
+		catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * Возвращает длину строки в указанной нотации.
+	 * <p>Позволяет заранее выделить буфер для {@link #convert(char[], int, int, NotationType, char[], int)}.</p>
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @return количество символов в строке {@code value}, преобразованной в {@code notationType}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 */
+	public static int measure(@NotNull final CharSequence value, @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+
+		return Converter.measure(value, 0, value.length(), notationType);
+	}
+
+	/**
+	 * Возвращает строку из известной нотации в указанной нотации.
+	 * <p>Границы слов определяются по разделителю или регистру исходной нотации без общего разбора.
+	 * Результат совпадает с {@link #to(CharSequence, NotationType)}, в том числе если {@code value}
+	 * не соответствует нотации {@code from}; в этом случае строка преобразуется общим способом.</p>
+	 *
+	 * @param value строка в нотации {@code from}.
+	 * @param from исходная нотация.
+	 * @param to нотация, в которую необходимо преобразовать строку.
+	 * @return строку в нотации {@code to}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code from} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code to} передан {@code null}.
+	 */
+	@NotNull
+	public static String convert(@NotNull final CharSequence value,
+								 @NotNull final NotationType from,
+								 @NotNull final NotationType to)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+
+		return PairConverter.convert(value, from, to);
+	}
+
+	/**
+	 * Переписывает JSON с изменением нотации имён членов объектов.
+	 * <p>JSON обрабатывается потоком без построения дерева: имена членов объектов преобразуются
+	 * в указанную нотацию, остальные символы переписываются без изменений. Имена, содержащие
+	 * управляющие последовательности, не изменяются. Объекты {@code reader} и {@code writer}
+	 * не закрываются.</p>
+	 *
+	 * @param reader объект, из которого читается JSON.
+	 * @param writer объект, в который записывается результат.
+	 * @param notationType тип нотации.
+	 * @throws NullPointerException если в качестве {@code reader} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code writer} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 * @throws IOException если скобки не сбалансированы или строка не завершена.
+	 */
+	public static void renameJsonKeys(@NotNull final Reader reader,
+									  @NotNull final Writer writer,
+									  @NotNull final NotationType notationType)
+		throws IOException
+	{
+		Objects.requireNonNull(reader);
+		Objects.requireNonNull(writer);
+		Objects.requireNonNull(notationType);
+
+		JsonKeyRenamer.rename(reader, writer, notationType);
+	}
+
+	/**
+	 * Переписывает текст с изменением нотации составных слов.
+	 * <p>Текст обрабатывается потоком: каждое составное слово, которое соответствует нотации {@code from},
+	 * записывается в нотации {@code to}, остальные символы переписываются без изменений. Составным
+	 * словом считается наибольшая последовательность букв, цифр и разделителя нотации {@code from}
+	 * без разделителей в начале и в конце, которая состоит больше чем из одного слова, поэтому
+	 * отдельные слова текста не изменяются. Расход памяти ограничен размером буферов, а составные слова
+	 * длиннее буфера переписываются без изменений. Объекты {@code reader} и {@code writer} не закрываются.</p>
+	 *
+	 * @param reader объект, из которого читается текст.
+	 * @param writer объект, в который записывается результат.
+	 * @param from исходная нотация.
+	 * @param to нотация результата.
+	 * @throws NullPointerException если в качестве {@code reader} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code writer} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code from} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code to} передан {@code null}.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	public static void renameIdentifiers(@NotNull final Reader reader,
+										 @NotNull final Writer writer,
+										 @NotNull final NotationType from,
+										 @NotNull final NotationType to)
+		throws IOException
+	{
+		Objects.requireNonNull(reader);
+		Objects.requireNonNull(writer);
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+
+		IdentifierRewriter.rewrite(reader, writer, from, to);
+	}
+
+	/**
+	 * Записывает символы в указанной нотации в массив.
+	 *
+	 * @param source массив символов, нотацию которых необходимо изменить.
+	 * @param offset позиция первого символа в {@code source}.
+	 * @param length количество символов в {@code source}.
+	 * @param notationType тип нотации.
+	 * @param destination массив, в который записывается результат.
+	 * @param destinationOffset позиция в {@code destination}, с которой записывается результат.
+	 * @return количество записанных символов.
+	 * @throws NullPointerException если в качестве {@code source} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code destination} передан {@code null}.
+	 * @throws IndexOutOfBoundsException если диапазон {@code offset} и {@code length} выходит за пределы {@code source}.
+	 * @throws IndexOutOfBoundsException если результат не помещается в {@code destination}.
+	 */
+	public static int convert(final char @NotNull [] source,
+							  final int offset,
+							  final int length,
+							  @NotNull final NotationType notationType,
+							  final char @NotNull [] destination,
+							  final int destinationOffset)
+	{
+		Objects.requireNonNull(source);
+		Objects.requireNonNull(notationType);
+		Objects.requireNonNull(destination);
+		Objects.checkFromIndexSize(offset, length, source.length);
+		Objects.checkIndex(destinationOffset, destination.length + 1);
+
+		return Converter.convert(source, offset, offset + length, notationType, destination, destinationOffset);
+	}
+
+	/**
+	 * Проверяет соответствие байтов UTF-8 указанной нотации.
+	 * <p>Байты проверяются без декодирования. Символы не из ASCII не соответствуют ни одной нотации.</p>
+	 *
+	 * @param value массив байтов UTF-8, нотацию которых необходимо проверить.
+	 * @param offset позиция первого байта в {@code value}.
+	 * @param length количество байтов в {@code value}.
+	 * @param notationType тип нотации.
+	 * @return {@code true}, если байты соответствуют {@code notationType}, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws IndexOutOfBoundsException если диапазон {@code offset} и {@code length} выходит за пределы {@code value}.
+	 */
+	public static boolean is(final byte @NotNull [] value,
+							 final int offset,
+							 final int length,
+							 @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+		Objects.checkFromIndexSize(offset, length, value.length);
+
+		return ByteConverter.matches(value, offset, offset + length, notationType);
+	}
+
+	/**
+	 * Проверяет соответствие байтов UTF-8 от текущей позиции до предела буфера указанной нотации.
+	 * <p>Байты проверяются без декодирования. Позиция буфера не изменяется.</p>
+	 *
+	 * @param value буфер байтов UTF-8, нотацию которых необходимо проверить.
+	 * @param notationType тип нотации.
+	 * @return {@code true}, если байты соответствуют {@code notationType}, иначе {@code false}.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 */
+	public static boolean is(@NotNull final ByteBuffer value, @NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(notationType);
+
+		return ByteConverter.matches(value, value.position(), value.limit(), notationType);
+	}
+
+	/**
+	 * Записывает байты UTF-8 в указанной нотации в массив.
+	 * <p>Байты ASCII преобразуются без декодирования. Если встречается символ не из ASCII,
+	 * байты декодируются из UTF-8 и преобразуются так же, как строка.</p>
+	 *
+	 * @param source массив байтов UTF-8, нотацию которых необходимо изменить.
+	 * @param offset позиция первого байта в {@code source}.
+	 * @param length количество байтов в {@code source}.
+	 * @param notationType тип нотации.
+	 * @param destination массив, в который записывается результат.
+	 * @param destinationOffset позиция в {@code destination}, с которой записывается результат.
+	 * @return количество записанных байтов.
+	 * @throws NullPointerException если в качестве {@code source} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code destination} передан {@code null}.
+	 * @throws IndexOutOfBoundsException если диапазон {@code offset} и {@code length} выходит за пределы {@code source}.
+	 * @throws IndexOutOfBoundsException если результат не помещается в {@code destination}.
+	 */
+	public static int convert(final byte @NotNull [] source,
+							  final int offset,
+							  final int length,
+							  @NotNull final NotationType notationType,
+							  final byte @NotNull [] destination,
+							  final int destinationOffset)
+	{
+		Objects.requireNonNull(source);
+		Objects.requireNonNull(notationType);
+		Objects.requireNonNull(destination);
+		Objects.checkFromIndexSize(offset, length, source.length);
+		Objects.checkIndex(destinationOffset, destination.length + 1);
+
+		final int written = ByteConverter.convert(
+			source, offset, offset + length, notationType, destination, destinationOffset, destination.length
+		);
+
+		if (written < 0) {
+			Objects.checkFromIndexSize(destinationOffset, ~written, destination.length);
+		}
+
+		return written;
+	}
+
+	/**
+	 * Записывает байты UTF-8 от текущей позиции до предела буфера в указанной нотации в другой буфер.
+	 * <p>Байты ASCII преобразуются без декодирования. Если встречается символ не из ASCII,
+	 * байты декодируются из UTF-8 и преобразуются так же, как строка.
+	 * Позиция {@code source} переносится на предел, а позиция {@code destination} — за последний
+	 * записанный байт.</p>
+	 *
+	 * @param source буфер байтов UTF-8, нотацию которых необходимо изменить.
+	 * @param notationType тип нотации.
+	 * @param destination буфер, в который записывается результат.
+	 * @return количество записанных байтов.
+	 * @throws NullPointerException если в качестве {@code source} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code destination} передан {@code null}.
+	 * @throws BufferOverflowException если результат не помещается в {@code destination};
+	 * в этом случае позиции буферов не изменяются.
+	 * @throws ReadOnlyBufferException если {@code destination} доступен только для чтения.
+	 */
+	public static int convert(@NotNull final ByteBuffer source,
+							  @NotNull final NotationType notationType,
+							  @NotNull final ByteBuffer destination)
+	{
+		Objects.requireNonNull(source);
+		Objects.requireNonNull(notationType);
+		Objects.requireNonNull(destination);
+
+		if (destination.isReadOnly()) {
+			throw new ReadOnlyBufferException();
+		}
+
+		final int written = ByteConverter.convert(
+			source, source.position(), source.limit(), notationType,
+			destination, destination.position(), destination.limit()
+		);
+
+		if (written < 0) {
+			throw new BufferOverflowException();
+		}
+
+		source.position(source.limit());
+		destination.position(destination.position() + written);
+
+		return written;
+	}
+
 	/**
 	 * Возвращает строку в нотации Upper Case.
 	 *
@@ -217,7 +952,22 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.fromAbstract(value, SeparatorType.UNDERSCORE).toUpperCase();
+		return Converter.convert(value, NotationType.UPPER_CASE);
+	}
+
+	/**
+	 * Возвращает строку в нотации Upper Case.
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @return строку в нотации Upper Case.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	@NotNull
+	public static String toUpperCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Converter.convert(value, NotationType.UPPER_CASE);
 	}
 
 	/**
@@ -232,7 +982,22 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.fromAbstract(value, SeparatorType.HYPHEN);
+		return Converter.convert(value, NotationType.KEBAB_CASE);
+	}
+
+	/**
+	 * Возвращает строку в нотации Kebab Case.
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @return строку в нотации Kebab Case.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	@NotNull
+	public static String toKebabCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Converter.convert(value, NotationType.KEBAB_CASE);
 	}
 
 	/**
@@ -247,7 +1012,22 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.fromAbstract(value, SeparatorType.UNDERSCORE);
+		return Converter.convert(value, NotationType.SNAKE_CASE);
+	}
+
+	/**
+	 * Возвращает строку в нотации Snake Case.
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @return строку в нотации Snake Case.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	@NotNull
+	public static String toSnakeCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Converter.convert(value, NotationType.SNAKE_CASE);
 	}
 
 	/**
@@ -262,7 +1042,22 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.fromAbstract(value, SeparatorType.UPPERCASE);
+		return Converter.convert(value, NotationType.CAMEL_CASE);
+	}
+
+	/**
+	 * Возвращает строку в нотации Camel Case.
+	 *
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @return строку в нотации Camel Case.
+	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
+	 */
+	@NotNull
+	public static String toCamelCase(@NotNull final CharSequence value)
+	{
+		Objects.requireNonNull(value);
+
+		return Converter.convert(value, NotationType.CAMEL_CASE);
 	}
 
 	/**
@@ -277,129 +1072,81 @@ public final class Notations
 	{
 		Objects.requireNonNull(value);
 
-		return Stringi.firstLetterToUpperCase(
-			Notations.fromAbstract(value, SeparatorType.UPPERCASE)
-		);
+		return Converter.convert(value, NotationType.PASCAL_CASE);
 	}
 
 	/**
-	 * Возвращает строку в нотации Dot Case.
+	 * Возвращает строку в нотации Pascal Case.
 	 *
 	 * @param value строка, нотацию которой необходимо изменить.
-	 * @return строку в нотации Dot Case.
+	 * @return строку в нотации Pascal Case.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
 	@NotNull
-	public static String toDotCase(@NotNull final String value)
+	public static String toPascalCase(@NotNull final CharSequence value)
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.fromAbstract(value, SeparatorType.DOT);
+		return Converter.convert(value, NotationType.PASCAL_CASE);
 	}
 
 	/**
-	 * Возвращает строку в нотации Train Case.
+	 * Возвращает строку в нотации Dot Case.
 	 *
 	 * @param value строка, нотацию которой необходимо изменить.
-	 * @return строку в нотации Train Case.
+	 * @return строку в нотации Dot Case.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
 	@NotNull
-	public static String toTrainCase(@NotNull final String value)
+	public static String toDotCase(@NotNull final String value)
 	{
 		Objects.requireNonNull(value);
 
-		return Notations.fromAbstract(value, SeparatorType.HYPHEN).toUpperCase();
+		return Converter.convert(value, NotationType.DOT_CASE);
 	}
 
 	/**
-	 * Проверяет соответствие строки указанной нотации.
+	 * Возвращает строку в нотации Dot Case.
 	 *
-	 * @param value строка.
-	 * @param regexp регулярное выражение нотации.
-	 * @return {@code true}, если {@code value} соответствует {@code regexp}, иначе {@code false}.
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @return строку в нотации Dot Case.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
-	 * @throws NullPointerException если в качестве {@code regexp} передан {@code null}.
 	 */
-	private static boolean is(@NotNull final String value, @NotNull final Regexp regexp)
+	@NotNull
+	public static String toDotCase(@NotNull final CharSequence value)
 	{
 		Objects.requireNonNull(value);
-		Objects.requireNonNull(regexp);
 
-		final Pattern pattern = Pattern.compile(regexp.getPattern(), Pattern.UNICODE_CASE);
-		final Matcher matcher = pattern.matcher(value);
-
-		return matcher.matches();
+		return Converter.convert(value, NotationType.DOT_CASE);
 	}
 
 	/**
-	 * Возвращает строку, в которой абстрактная нотация преобразована в соответствии с разделителем.
+	 * Возвращает строку в нотации Train Case.
 	 *
-	 * @param value строка в абстрактной нотации.
-	 * @param separatorType необходимый разделитель для выбранной нотации.
-	 * @return строку, в которой абстрактная нотация преобразована в соответствии с разделителем.
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @return строку в нотации Train Case.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
-	 * @throws NullPointerException если в качестве {@code separatorType} передан {@code null}.
 	 */
 	@NotNull
-	private static String fromAbstract(@NotNull final String value, @NotNull final SeparatorType separatorType)
+	public static String toTrainCase(@NotNull final String value)
 	{
 		Objects.requireNonNull(value);
-		Objects.requireNonNull(separatorType);
 
-		String abstractValue = Notations.toAbstract(value);
-		Matcher matcher = Pattern.compile(
-				Pattern.quote(Notations.ABSTRACT_SEPARATOR) + "(?<target>[a-z0-9])",
-				Pattern.UNICODE_CASE
-		).matcher(abstractValue);
-
-		while (matcher.find())
-		{
-			String target = matcher.group("target");
-			String replacement = separatorType.getSymbol() + target;
-
-			if (separatorType == SeparatorType.UPPERCASE) {
-				replacement = replacement.toUpperCase();
-			}
-
-			abstractValue = abstractValue.replaceAll(
-					Pattern.quote(Notations.ABSTRACT_SEPARATOR) + target,
-					replacement
-			);
-		}
-
-		return abstractValue;
+		return Converter.convert(value, NotationType.TRAIN_CASE);
 	}
 
 	/**
-	 * Возвращает строку в абстрактной нотации.
-	 * Абстрактная нотация - это стиль в котором разделение слов обозначается
-	 * символом {@value Notations#ABSTRACT_SEPARATOR}, а все буквы строчные.
+	 * Возвращает строку в нотации Train Case.
 	 *
-	 * @param value строка, которую необходимо конвертировать в абстрактную нотацию.
-	 * @return строку в абстрактной нотации.
+	 * @param value строка, нотацию которой необходимо изменить.
+	 * @return строку в нотации Train Case.
 	 * @throws NullPointerException если в качестве {@code value} передан {@code null}.
 	 */
 	@NotNull
-	private static String toAbstract(@NotNull final String value)
+	public static String toTrainCase(@NotNull final CharSequence value)
 	{
 		Objects.requireNonNull(value);
 
-		String separators = String.join("", SeparatorType.getAllSymbols());
-		String regexp = "(?<=[a-zA-Z])[" + separators + "](?=[a-z0-9A-Z])";
-		String abstractValue = value.replaceAll(regexp, Notations.ABSTRACT_SEPARATOR);
-
-		Matcher matcher = Pattern.compile("(?<=[a-z])(?<word>[A-Z])(?=[a-z0-9A-Z])", Pattern.UNICODE_CASE)
-								 .matcher(abstractValue);
-
-		while (matcher.find())
-		{
-			String target = matcher.group("word");
-			String replacement = Notations.ABSTRACT_SEPARATOR + target;
-
-			abstractValue = abstractValue.replaceAll("(?<=[a-z])" + target, replacement);
-		}
-
-		return abstractValue.toLowerCase();
+		return Converter.convert(value, NotationType.TRAIN_CASE);
 	}
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс преобразования составных слов из известной нотации в указанную.
+ * <p>Строка в известной нотации состоит только из латинских букв, цифр и разделителя этой нотации,
+ * поэтому границы слов определяются без общего разбора: в нотациях с разделителем границей является
+ * сам разделитель, а в слитных нотациях — прописная буква после строчной. Преобразование сводится
+ * к замене разделителя и изменению регистра латинских букв.
+ * Если строка не изменилась, возвращается исходный объект строки.</p>
+ * <p>Соответствие строки исходной нотации проверяется автоматом {@link Automaton} в том же проходе.
+ * Если строка не соответствует исходной нотации, она преобразуется общим способом {@link Converter}.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class PairConverter
+{
+	/**
+	 * Разница между кодами строчной и прописной латинской буквы.
+	 */
+	private static final int CASE_BIT = 0x20;
+
+	/**
+	 * Конструктор для {@code PairConverter}.
+	 */
+	private PairConverter() {}
+
+	/**
+	 * Возвращает строку из исходной нотации в указанной нотации.
+	 *
+	 * @param value строка в исходной нотации.
+	 * @param from исходная нотация.
+	 * @param to нотация, в которую необходимо преобразовать строку.
+	 * @return строку в нотации {@code to}.
+	 */
+	@NotNull
+	static String convert(@NotNull final CharSequence value,
+						  @NotNull final NotationType from,
+						  @NotNull final NotationType to)
+	{
+		if (from == to) {
+			return Converter.convert(value, to);
+		}
+
+		final byte[] transitions = Automaton.getTransitions(from);
+		final char sourceSeparator = Converter.getSeparator(from);
+		final char targetSeparator = Converter.getSeparator(to);
+		final int length = value.length();
+		final boolean splitsWords = sourceSeparator == Converter.NO_SEPARATOR;
+		final int capacity = splitsWords && targetSeparator != Converter.NO_SEPARATOR ? length * 2 : length;
+		char[] result = null;
+		int position = 0;
+		int state = Automaton.START;
+		int previousClass = Automaton.OTHER;
+		boolean wordStart = false;
+
+		for (int index = 0; index < length; index++)
+		{
+			final char symbol = value.charAt(index);
+			final int charClass = Automaton.getCharClass(symbol);
+			state = transitions[state * Automaton.CLASSES + charClass];
+
+			if (state == Automaton.REJECT) {
+				return Converter.convert(value, to);
+			}
+
+			if (splitsWords)
+			{
+				if (charClass == Automaton.UPPER && previousClass == Automaton.LOWER && index + 1 < length)
+				{
+					if (targetSeparator != Converter.NO_SEPARATOR)
+					{
+						if (result == null) {
+							result = PairConverter.copyPrefix(value, index, capacity);
+						}
+
+						result[position++] = targetSeparator;
+					}
+
+					wordStart = true;
+				}
+			}
+			else if (symbol == sourceSeparator)
+			{
+				if (result == null && targetSeparator != sourceSeparator) {
+					result = PairConverter.copyPrefix(value, index, capacity);
+				}
+
+				if (targetSeparator != Converter.NO_SEPARATOR)
+				{
+					if (result != null) {
+						result[position] = targetSeparator;
+					}
+
+					position++;
+				}
+
+				wordStart = true;
+				previousClass = charClass;
+				continue;
+			}
+
+			final char converted = PairConverter.toCase(
+				symbol, charClass, Converter.isUpperCase(to, wordStart, index == 0)
+			);
+
+			if (result == null && converted != symbol) {
+				result = PairConverter.copyPrefix(value, index, capacity);
+			}
+
+			if (result != null) {
+				result[position] = converted;
+			}
+
+			position++;
+			wordStart = false;
+			previousClass = charClass;
+		}
+
+		if (state != Automaton.WORD) {
+			return Converter.convert(value, to);
+		}
+
+		return result == null ? value.toString() : new String(result, 0, position);
+	}
+
+	/**
+	 * Возвращает массив для результата с неизменённым началом строки.
+	 * <p>Массив создаётся только при первом изменении, поэтому для неизменённой строки
+	 * память не выделяется.</p>
+	 *
+	 * @param value строка.
+	 * @param length количество неизменённых символов в начале строки.
+	 * @param capacity размер массива.
+	 * @return массив, в начало которого скопированы {@code length} символов {@code value}.
+	 */
+	private static char @NotNull [] copyPrefix(@NotNull final CharSequence value, final int length, final int capacity)
+	{
+		final char[] result = new char[capacity];
+
+		for (int index = 0; index < length; index++) {
+			result[index] = value.charAt(index);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Возвращает латинскую букву или цифру в указанном регистре.
+	 *
+	 * @param symbol латинская буква или цифра.
+	 * @param charClass класс символа.
+	 * @param upperCase {@code true}, если необходима прописная буква.
+	 * @return символ в указанном регистре.
+	 */
+	private static char toCase(final char symbol, final int charClass, final boolean upperCase)
+	{
+		if (charClass == Automaton.DIGIT) {
+			return symbol;
+		}
+
+		return (char) (upperCase ? symbol & ~CASE_BIT : symbol | CASE_BIT);
+	}
+}
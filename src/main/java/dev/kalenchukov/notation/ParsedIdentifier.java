@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Класс составного слова с найденными границами слов.
+ * <p>Границы слов определяются один раз при создании и хранятся как массив позиций
+ * начала и конца каждого слова, поэтому составное слово можно получить в любой нотации
+ * без повторного разбора.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class ParsedIdentifier
+{
+	/**
+	 * Исходная строка.
+	 */
+	@NotNull
+	private final String value;
+
+	/**
+	 * Позиции слов в {@link #value}.
+	 * <p>Для слова с номером {@code i} позиция начала включительно хранится по индексу {@code 2 * i},
+	 * а позиция конца не включительно — по индексу {@code 2 * i + 1}.</p>
+	 */
+	private final int @NotNull [] words;
+
+	/**
+	 * Конструктор для {@code ParsedIdentifier}.
+	 *
+	 * @param value исходная строка.
+	 * @param words позиции слов в {@code value}.
+	 */
+	private ParsedIdentifier(@NotNull final String value, final int @NotNull [] words)
+	{
+		this.value = value;
+		this.words = words;
+	}
+
+	/**
+	 * Разбирает строку на слова.
+	 *
+	 * @param value строка.
+	 * @return составное слово с найденными границами слов.
+	 */
+	@NotNull
+	static ParsedIdentifier parse(@NotNull final CharSequence value)
+	{
+		final String string = value.toString();
+		final WordCursor cursor = new WordCursor(string);
+		int[] words = new int[8];
+		int count = 0;
+
+		while (cursor.next())
+		{
+			if (count + 2 > words.length) {
+				words = Arrays.copyOf(words, words.length * 2);
+			}
+
+			words[count++] = cursor.getStart();
+			words[count++] = cursor.getEnd();
+		}
+
+		return new ParsedIdentifier(string, Arrays.copyOf(words, count));
+	}
+
+	/**
+	 * Возвращает количество слов.
+	 *
+	 * @return количество слов.
+	 */
+	public int getWordCount()
+	{
+		return this.words.length / 2;
+	}
+
+	/**
+	 * Возвращает слово в исходном регистре.
+	 *
+	 * @param index номер слова.
+	 * @return слово.
+	 * @throws IndexOutOfBoundsException если {@code index} выходит за пределы количества слов.
+	 */
+	@NotNull
+	public String getWord(final int index)
+	{
+		Objects.checkIndex(index, this.getWordCount());
+
+		return this.value.substring(this.words[2 * index], this.words[2 * index + 1]);
+	}
+
+	/**
+	 * Возвращает позицию начала слова.
+	 *
+	 * @param index номер слова.
+	 * @return позицию начала слова в исходной строке включительно.
+	 */
+	int getStart(final int index)
+	{
+		return this.words[2 * index];
+	}
+
+	/**
+	 * Возвращает позицию конца слова.
+	 *
+	 * @param index номер слова.
+	 * @return позицию конца слова в исходной строке не включительно.
+	 */
+	int getEnd(final int index)
+	{
+		return this.words[2 * index + 1];
+	}
+
+	/**
+	 * Возвращает составное слово в указанной нотации.
+	 *
+	 * @param notationType тип нотации.
+	 * @return составное слово в указанной нотации.
+	 * @throws NullPointerException если в качестве {@code notationType} передан {@code null}.
+	 */
+	@NotNull
+	public String to(@NotNull final NotationType notationType)
+	{
+		Objects.requireNonNull(notationType);
+
+		final char separator = Converter.getSeparator(notationType);
+		final int wordCount = this.getWordCount();
+		int length = 0;
+
+		for (int index = 0; index < this.words.length; index += 2) {
+			length += this.words[index + 1] - this.words[index];
+		}
+
+		if (separator != Converter.NO_SEPARATOR && wordCount > 1) {
+			length += wordCount - 1;
+		}
+
+		final char[] result = new char[length];
+		int position = 0;
+
+		for (int word = 0; word < wordCount; word++)
+		{
+			final int start = this.words[2 * word];
+			final int end = this.words[2 * word + 1];
+
+			if (word > 0 && separator != Converter.NO_SEPARATOR) {
+				result[position++] = separator;
+			}
+
+			for (int index = start; index < end; index++)
+			{
+				result[position++] = Converter.toCase(
+					this.value.charAt(index), notationType, word > 0 && index == start, index == 0
+				);
+			}
+		}
+
+		return new String(result);
+	}
+
+	/**
+	 * Возвращает составное слово во всех нотациях.
+	 *
+	 * @return составные слова по типам нотаций.
+	 */
+	@NotNull
+	public Map<@NotNull NotationType, @NotNull String> toAll()
+	{
+		final EnumMap<NotationType, String> results = new EnumMap<>(NotationType.class);
+
+		for (NotationType notationType : NotationType.values()) {
+			results.put(notationType, this.to(notationType));
+		}
+
+		return results;
+	}
+
+	/**
+	 * Проверяет равенство исходных строк.
+	 *
+	 * @param object объект для сравнения.
+	 * @return {@code true}, если {@code object} разобран из той же строки, иначе {@code false}.
+	 */
+	@Override
+	public boolean equals(@Nullable final Object object)
+	{
+		return this == object
+			|| object instanceof ParsedIdentifier identifier && this.value.equals(identifier.value);
+	}
+
+	/**
+	 * Возвращает хэш-код исходной строки.
+	 *
+	 * @return хэш-код.
+	 */
+	@Override
+	public int hashCode()
+	{
+		return this.value.hashCode();
+	}
+
+	/**
+	 * Возвращает исходную строку.
+	 *
+	 * @return исходную строку.
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return this.value;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.SeparatorType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс определения границ слов в составном слове.
+ * <p>Границы слов определяются по соседним символам за один проход по строке:</p>
+ * <ul>
+ * 		<li>Символ разделителя из {@link SeparatorType}, перед которым стоит латинская буква или цифра,
+ * 		а после — латинская буква или цифра, разделяет слова и в слова не входит;</li>
+ * 		<li>Прописная латинская буква, перед которой стоит строчная латинская буква,
+ * 		а после — латинская буква или цифра, начинает новое слово;</li>
+ * 		<li>Остальные символы, в том числе разделители в других позициях, входят в текущее слово.</li>
+ * </ul>
+ *
+ * @author Алексей Каленчуков
+ */
+final class Segmenter
+{
+	/**
+	 * Символ не является границей слов.
+	 */
+	static final int NONE = 0;
+
+	/**
+	 * Символ является разделителем слов и в слова не входит.
+	 */
+	static final int SEPARATOR = 1;
+
+	/**
+	 * Символ начинает новое слово.
+	 */
+	static final int SPLIT = 2;
+
+	/**
+	 * Символ, обозначающий отсутствие соседнего символа на краю составного слова.
+	 * <p>Не является ни буквой, ни цифрой, ни разделителем.</p>
+	 */
+	static final char NO_CHAR = '\0';
+
+	/**
+	 * Признаки символов разделителей ASCII.
+	 */
+	private static final boolean @NotNull [] SEPARATORS = new boolean[128];
+
+	static
+	{
+		for (SeparatorType separatorType : SeparatorType.values())
+		{
+			for (char symbol : separatorType.getSymbol().toCharArray()) {
+				SEPARATORS[symbol] = true;
+			}
+		}
+	}
+
+	/**
+	 * Конструктор для {@code Segmenter}.
+	 */
+	private Segmenter() {}
+
+	/**
+	 * Проверяет, является ли символ разделителем из {@link SeparatorType}.
+	 *
+	 * @param symbol символ.
+	 * @return {@code true}, если {@code symbol} является разделителем, иначе {@code false}.
+	 */
+	static boolean isSeparator(final char symbol)
+	{
+		return symbol < SEPARATORS.length && SEPARATORS[symbol];
+	}
+
+	/**
+	 * Возвращает вид границы слов в указанной позиции.
+	 *
+	 * @param value строка.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @param index позиция символа.
+	 * @return {@link #SEPARATOR}, {@link #SPLIT} или {@link #NONE}.
+	 */
+	static int getBoundary(@NotNull final CharSequence value, final int start, final int end, final int index)
+	{
+		return Segmenter.getBoundary(
+			index > start ? value.charAt(index - 1) : NO_CHAR,
+			value.charAt(index),
+			index + 1 < end ? value.charAt(index + 1) : NO_CHAR
+		);
+	}
+
+	/**
+	 * Возвращает вид границы слов для символа по соседним символам.
+	 *
+	 * @param previous предыдущий символ или {@link #NO_CHAR}, если символ первый.
+	 * @param symbol символ.
+	 * @param next следующий символ или {@link #NO_CHAR}, если символ последний.
+	 * @return {@link #SEPARATOR}, {@link #SPLIT} или {@link #NONE}.
+	 */
+	static int getBoundary(final char previous, final char symbol, final char next)
+	{
+		if (Segmenter.isSeparator(symbol))
+		{
+			if (Segmenter.isLetterOrDigit(previous) && Segmenter.isLetterOrDigit(next)) {
+				return SEPARATOR;
+			}
+		}
+		else if (Automaton.getCharClass(symbol) == Automaton.UPPER)
+		{
+			if (Automaton.getCharClass(previous) == Automaton.LOWER && Segmenter.isLetterOrDigit(next)) {
+				return SPLIT;
+			}
+		}
+
+		return NONE;
+	}
+
+	/**
+	 * Проверяет, является ли символ латинской буквой или цифрой.
+	 *
+	 * @param symbol символ.
+	 * @return {@code true}, если {@code symbol} является латинской буквой или цифрой, иначе {@code false}.
+	 */
+	static boolean isLetterOrDigit(final char symbol)
+	{
+		final int charClass = Automaton.getCharClass(symbol);
+
+		return charClass == Automaton.LOWER || charClass == Automaton.UPPER || charClass == Automaton.DIGIT;
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+
+/**
+ * Класс сравнения составных слов без учёта нотации.
+ * <p>Составные слова сравниваются как последовательности слов, символы которых приведены
+ * к строчным буквам. Границы слов определяются {@link Segmenter}, поэтому два составных слова
+ * равны тогда и только тогда, когда равны их записи в нотации Snake Case.
+ * Нормализованная строка при сравнении не создаётся.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class WordComparator implements Comparator<CharSequence>
+{
+	/**
+	 * Экземпляр для {@code WordComparator}.
+	 */
+	@NotNull
+	static final WordComparator INSTANCE = new WordComparator();
+
+	/**
+	 * Начальное значение хеш-кода FNV-1a.
+	 */
+	private static final long OFFSET_BASIS = 0xCBF29CE484222325L;
+
+	/**
+	 * Множитель хеш-кода FNV-1a.
+	 */
+	private static final long PRIME = 0x100000001B3L;
+
+	/**
+	 * Код границы слов при вычислении хеш-кода.
+	 * <p>Не совпадает ни с одним символом.</p>
+	 */
+	private static final int BOUNDARY = 0x10000;
+
+	/**
+	 * Конструктор для {@code WordComparator}.
+	 */
+	private WordComparator() {}
+
+	/**
+	 * Сравнивает составные слова без учёта нотации.
+	 * <p>Слова сравниваются по порядку. Слово, которое является началом другого слова,
+	 * считается меньшим, как и составное слово, слова которого являются началом другого составного слова.</p>
+	 *
+	 * @param value составное слово.
+	 * @param other составное слово.
+	 * @return отрицательное число, ноль или положительное число, если {@code value} меньше,
+	 * равно или больше {@code other}.
+	 */
+	@Override
+	public int compare(@NotNull final CharSequence value, @NotNull final CharSequence other)
+	{
+		final int valueLength = value.length();
+		final int otherLength = other.length();
+		int valueStart = 0;
+		int otherStart = 0;
+
+		while (true)
+		{
+			final int valueEnd = WordComparator.findEnd(value, valueLength, valueStart);
+			final int otherEnd = WordComparator.findEnd(other, otherLength, otherStart);
+			final int comparison = WordComparator.compareWords(value, valueStart, valueEnd, other, otherStart, otherEnd);
+
+			if (comparison != 0) {
+				return comparison;
+			}
+
+			if (valueEnd == valueLength || otherEnd == otherLength) {
+				return Boolean.compare(valueEnd != valueLength, otherEnd != otherLength);
+			}
+
+			valueStart = WordComparator.nextStart(value, valueLength, valueEnd);
+			otherStart = WordComparator.nextStart(other, otherLength, otherEnd);
+		}
+	}
+
+	/**
+	 * Сравнивает слова без учёта регистра.
+	 * <p>Слово, которое является началом другого слова, считается меньшим.</p>
+	 *
+	 * @param value строка с первым словом.
+	 * @param valueStart позиция начала первого слова включительно.
+	 * @param valueEnd позиция конца первого слова не включительно.
+	 * @param other строка со вторым словом.
+	 * @param otherStart позиция начала второго слова включительно.
+	 * @param otherEnd позиция конца второго слова не включительно.
+	 * @return отрицательное число, ноль или положительное число, если первое слово меньше,
+	 * равно или больше второго.
+	 */
+	static int compareWords(@NotNull final CharSequence value,
+							final int valueStart,
+							final int valueEnd,
+							@NotNull final CharSequence other,
+							final int otherStart,
+							final int otherEnd)
+	{
+		final int valueWordLength = valueEnd - valueStart;
+		final int otherWordLength = otherEnd - otherStart;
+		final int commonLength = Math.min(valueWordLength, otherWordLength);
+
+		for (int offset = 0; offset < commonLength; offset++)
+		{
+			final char valueSymbol = Character.toLowerCase(value.charAt(valueStart + offset));
+			final char otherSymbol = Character.toLowerCase(other.charAt(otherStart + offset));
+
+			if (valueSymbol != otherSymbol) {
+				return valueSymbol - otherSymbol;
+			}
+		}
+
+		return valueWordLength - otherWordLength;
+	}
+
+	/**
+	 * Проверяет равенство составных слов без учёта нотации.
+	 * <p>Совпадающие посимвольно строки равны без разбора на слова.</p>
+	 *
+	 * @param value составное слово.
+	 * @param other составное слово.
+	 * @return {@code true}, если последовательности слов равны без учёта регистра, иначе {@code false}.
+	 */
+	static boolean equals(@NotNull final CharSequence value, @NotNull final CharSequence other)
+	{
+		if (value == other || value instanceof String string && string.contentEquals(other)) {
+			return true;
+		}
+
+		return INSTANCE.compare(value, other) == 0;
+	}
+
+	/**
+	 * Возвращает 64-битный хеш-код составного слова без учёта нотации.
+	 * <p>Хеш-код FNV-1a вычисляется по символам слов, приведённым к строчным буквам,
+	 * и кодам границ слов между ними, после чего биты перемешиваются. Равные без учёта нотации
+	 * составные слова имеют равные хеш-коды.</p>
+	 *
+	 * @param value составное слово.
+	 * @return хеш-код.
+	 */
+	static long hash(@NotNull final CharSequence value)
+	{
+		final int length = value.length();
+		long hash = OFFSET_BASIS;
+		char previous = Segmenter.NO_CHAR;
+		char symbol = length > 0 ? value.charAt(0) : Segmenter.NO_CHAR;
+
+		for (int index = 0; index < length; index++)
+		{
+			final char next = index + 1 < length ? value.charAt(index + 1) : Segmenter.NO_CHAR;
+			final int boundary = Segmenter.getBoundary(previous, symbol, next);
+
+			if (boundary != Segmenter.NONE) {
+				hash = (hash ^ BOUNDARY) * PRIME;
+			}
+
+			if (boundary != Segmenter.SEPARATOR) {
+				hash = (hash ^ Character.toLowerCase(symbol)) * PRIME;
+			}
+
+			previous = symbol;
+			symbol = next;
+		}
+
+		return WordComparator.mix(hash);
+	}
+
+	/**
+	 * Возвращает позицию конца слова.
+	 *
+	 * @param value составное слово.
+	 * @param length длина составного слова.
+	 * @param start позиция начала слова.
+	 * @return позицию следующей границы слов или {@code length}, если слово последнее.
+	 */
+	private static int findEnd(@NotNull final CharSequence value, final int length, final int start)
+	{
+		if (start + 1 >= length) {
+			return length;
+		}
+
+		char previous = value.charAt(start);
+		char symbol = value.charAt(start + 1);
+
+		for (int index = start + 1; index < length; index++)
+		{
+			final char next = index + 1 < length ? value.charAt(index + 1) : Segmenter.NO_CHAR;
+
+			if (Segmenter.getBoundary(previous, symbol, next) != Segmenter.NONE) {
+				return index;
+			}
+
+			previous = symbol;
+			symbol = next;
+		}
+
+		return length;
+	}
+
+	/**
+	 * Возвращает позицию начала слова, следующего за границей слов.
+	 *
+	 * @param value составное слово.
+	 * @param length длина составного слова.
+	 * @param boundary позиция границы слов.
+	 * @return позицию начала следующего слова.
+	 */
+	private static int nextStart(@NotNull final CharSequence value, final int length, final int boundary)
+	{
+		return Segmenter.getBoundary(value, 0, length, boundary) == Segmenter.SEPARATOR
+			? boundary + 1
+			: boundary;
+	}
+
+	/**
+	 * Перемешивает биты хеш-кода.
+	 * <p>Используется завершающая функция MurmurHash3, чтобы младшие биты зависели от всех символов.</p>
+	 *
+	 * @param hash хеш-код.
+	 * @return перемешанный хеш-код.
+	 */
+	private static long mix(final long hash)
+	{
+		long result = hash;
+
+		result = (result ^ (result >>> 33)) * 0xFF51AFD7ED558CCDL;
+		result = (result ^ (result >>> 33)) * 0xC4CEB9FE1A85EC53L;
+
+		return result ^ (result >>> 33);
+	}
+}
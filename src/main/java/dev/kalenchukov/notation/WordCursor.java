@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.CharBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * Класс последовательного обхода слов составного слова.
+ * <p>Слова возвращаются как позиции в исходной строке, поэтому обход не копирует символы
+ * и не создаёт объектов на каждое слово. Границы слов определяются так же,
+ * как при изменении нотации.</p>
+ *
+ * <p>Пример обхода:</p>
+ * <pre>{@code
+ * String text = "getUserAccountId";
+ * WordCursor cursor = Notations.words(text);
+ *
+ * while (cursor.next()) {
+ *     index.add(text, cursor.getStart(), cursor.getEnd());
+ * }
+ * }</pre>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class WordCursor
+{
+	/**
+	 * Составное слово.
+	 */
+	@NotNull
+	private final CharSequence value;
+
+	/**
+	 * Длина составного слова.
+	 */
+	private final int length;
+
+	/**
+	 * Позиция начала следующего слова.
+	 * <p>Значение больше {@link #length} означает, что слова закончились.</p>
+	 */
+	private int nextStart;
+
+	/**
+	 * Позиция, с которой продолжается поиск границы слов.
+	 */
+	private int position;
+
+	/**
+	 * Позиция начала текущего слова включительно.
+	 */
+	private int start;
+
+	/**
+	 * Позиция конца текущего слова не включительно.
+	 */
+	private int end;
+
+	/**
+	 * Признак наличия текущего слова.
+	 */
+	private boolean hasWord;
+
+	/**
+	 * Конструктор для {@code WordCursor}.
+	 *
+	 * @param value составное слово.
+	 */
+	WordCursor(@NotNull final CharSequence value)
+	{
+		this.value = value;
+		this.length = value.length();
+		this.nextStart = this.length == 0 ? 1 : 0;
+	}
+
+	/**
+	 * Переходит к следующему слову.
+	 *
+	 * @return {@code true}, если следующее слово есть, иначе {@code false}.
+	 */
+	public boolean next()
+	{
+		if (this.nextStart > this.length)
+		{
+			this.hasWord = false;
+
+			return false;
+		}
+
+		this.hasWord = true;
+		this.start = this.nextStart;
+
+		for (int index = this.position; index < this.length; index++)
+		{
+			final int boundary = Segmenter.getBoundary(this.value, 0, this.length, index);
+
+			if (boundary != Segmenter.NONE)
+			{
+				this.end = index;
+				this.nextStart = boundary == Segmenter.SEPARATOR ? index + 1 : index;
+				this.position = index + 1;
+
+				return true;
+			}
+		}
+
+		this.end = this.length;
+		this.nextStart = this.length + 1;
+		this.position = this.length;
+
+		return true;
+	}
+
+	/**
+	 * Возвращает позицию начала текущего слова.
+	 *
+	 * @return позицию начала слова в составном слове включительно.
+	 * @throws NoSuchElementException если текущего слова нет.
+	 */
+	public int getStart()
+	{
+		this.checkWord();
+
+		return this.start;
+	}
+
+	/**
+	 * Возвращает позицию конца текущего слова.
+	 *
+	 * @return позицию конца слова в составном слове не включительно.
+	 * @throws NoSuchElementException если текущего слова нет.
+	 */
+	public int getEnd()
+	{
+		this.checkWord();
+
+		return this.end;
+	}
+
+	/**
+	 * Возвращает текущее слово.
+	 * <p>Возвращаемый объект является представлением части составного слова без копирования символов.</p>
+	 *
+	 * @return текущее слово.
+	 * @throws NoSuchElementException если текущего слова нет.
+	 */
+	@NotNull
+	public CharSequence getWord()
+	{
+		this.checkWord();
+
+		return CharBuffer.wrap(this.value, this.start, this.end);
+	}
+
+	/**
+	 * Проверяет наличие текущего слова.
+	 *
+	 * @throws NoSuchElementException если метод {@link #next()} не вызывался или вернул {@code false}.
+	 */
+	private void checkWord()
+	{
+		if (!this.hasWord) {
+			throw new NoSuchElementException();
+		}
+	}
+}
@@ -25,9 +25,14 @@
 package dev.kalenchukov.notation.resources;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.regex.Pattern;
 
 /**
  * Перечисление шаблонов регулярных выражений.
+ * <p>Шаблоны не содержат вложенных квантификаторов с возвратами: повторения записаны
+ * сверхжадными квантификаторами, поэтому время проверки строки линейно зависит от её длины.</p>
  *
  * @author Алексей Каленчуков
  */
@@ -49,11 +54,11 @@ public enum Regexp
 	 */
 	UPPER_CASE("upperCase", """
 		(?<upperCase>
-			(?=.{1,})
-			(?![0-9_]+)
-			(?!_{2,})
-			([A-Z0-9]+)*
-			(_[A-Z0-9]+)*
+			(?=.)
+			(?![0-9_])
+			(?!__)
+			[A-Z0-9]*+
+			(?:_[A-Z0-9]++)*+
 		)
 		"""),
 
@@ -73,11 +78,11 @@ public enum Regexp
 	 */
 	KEBAB_CASE("kebabCase", """
 		(?<kebabCase>
-			(?=.{1,})
-			(?![0-9-]+)
-			(?!-{2,})
-			([a-z0-9]+)*
-			(-[a-z0-9]+)*
+			(?=.)
+			(?![0-9-])
+			(?!--)
+			[a-z0-9]*+
+			(?:-[a-z0-9]++)*+
 		)
 		"""),
 
@@ -97,11 +102,11 @@ public enum Regexp
 	 */
 	SNAKE_CASE("snakeCase", """
 		(?<snakeCase>
-			(?=.{1,})
-			(?![0-9_]+)
-			(?!_{2,})
-			([a-z0-9]+)*
-			(_[a-z0-9]+)*
+			(?=.)
+			(?![0-9_])
+			(?!__)
+			[a-z0-9]*+
+			(?:_[a-z0-9]++)*+
 		)
 		"""),
 
@@ -119,12 +124,12 @@ public enum Regexp
 	 */
 	CAMEL_CASE("camelCase", """
 		(?<camelCase>
-			(?=.{1,})
-			(?![0-9]+)
+			(?=.)
+			(?![0-9])
 			(?![A-Z])
-			([a-z0-9]+)+
-			([A-Z]+[a-z0-9]+)*
-			([A-Z]+[0-9]*)*
+			[a-z0-9]++
+			(?:[A-Z]++[a-z0-9]++)*+
+			(?:[A-Z]++[0-9]*+)*+
 		)
 		"""),
 
@@ -142,11 +147,11 @@ public enum Regexp
 	 */
 	PASCAL_CASE("pascalCase", """
 		(?<pascalCase>
-			(?=.{1,})
-			(?![0-9]+)
+			(?=.)
+			(?![0-9])
 			(?![a-z])
-			([A-Z]+[a-z0-9]+)*
-			([A-Z]+[0-9]*)*
+			(?:[A-Z]++[a-z0-9]++)*+
+			(?:[A-Z]++[0-9]*+)*+
 		)
 		"""),
 
@@ -166,11 +171,11 @@ public enum Regexp
 	 */
 	DOT_CASE("dotCase", """
 		(?<dotCase>
-			(?=.{1,})
-			(?![0-9.]+)
-			(?!\\.{2,})
-			([a-z0-9]+)*
-			(\\.[a-z0-9]+)*
+			(?=.)
+			(?![0-9.])
+			(?!\\.\\.)
+			[a-z0-9]*+
+			(?:\\.[a-z0-9]++)*+
 		)
 		"""),
 
@@ -190,11 +195,11 @@ public enum Regexp
 	 */
 	TRAIN_CASE("trainCase", """
 		(?<trainCase>
-			(?=.{1,})
-			(?![0-9-]+)
-			(?!-{2,})
-			([A-Z0-9]+)*
-			(-[A-Z0-9]+)*
+			(?=.)
+			(?![0-9-])
+			(?!--)
+			[A-Z0-9]*+
+			(?:-[A-Z0-9]++)*+
 		)
 		""");
 
@@ -210,15 +215,23 @@ public enum Regexp
 	@NotNull
 	private final String pattern;
 
+	/**
+	 * Скомпилированное регулярное выражение.
+	 * <p>Создаётся при первом обращении и далее используется повторно.</p>
+	 */
+	@Nullable
+	private volatile Pattern compiledPattern;
+
 	/**
 	 * Конструктор для {@code Regexp}.
 	 *
+	 * @param group основная группа регулярного выражения.
 	 * @param pattern шаблон регулярного выражения.
 	 */
 	Regexp(@NotNull final String group, @NotNull final String pattern)
 	{
 		this.group = group;
-		this.pattern = pattern;
+		this.pattern = pattern.replaceAll("[\n\t\s]*", "");
 	}
 
 	/**
@@ -240,6 +253,26 @@ public enum Regexp
 	@NotNull
 	public String getPattern()
 	{
-		return this.pattern.replaceAll("[\n\t\s]*", "");
+		return this.pattern;
+	}
+
+	/**
+	 * Возвращает скомпилированное регулярное выражение.
+	 * <p>Регулярное выражение компилируется один раз при первом обращении.</p>
+	 *
+	 * @return скомпилированное регулярное выражение.
+	 */
+	@NotNull
+	public Pattern getCompiledPattern()
+	{
+		Pattern compiledPattern = this.compiledPattern;
+
+		if (compiledPattern == null)
+		{
+			compiledPattern = Pattern.compile(this.pattern, Pattern.UNICODE_CASE);
+			this.compiledPattern = compiledPattern;
+		}
+
+		return compiledPattern;
 	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+
+/**
+ * Класс поиска границ слов в массиве символов для Java 21 и новее.
+ * <p>Если модуль {@code jdk.incubator.vector} загружен (например, с параметром
+ * {@code --add-modules jdk.incubator.vector}), границы слов ищутся векторными операциями
+ * {@link VectorBoundaryScanner}. Иначе символы проверяются по одному, как в реализации для Java 17.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class BoundaryScanner
+{
+	/**
+	 * Имя модуля векторных операций.
+	 */
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	/**
+	 * Признак использования векторных операций.
+	 */
+	private static final boolean VECTORIZED = BoundaryScanner.enableVector();
+
+	/**
+	 * Конструктор для {@code BoundaryScanner}.
+	 */
+	private BoundaryScanner() {}
+
+	/**
+	 * Проверяет, используются ли векторные операции.
+	 *
+	 * @return {@code true}, если границы слов ищутся векторными операциями, иначе {@code false}.
+	 */
+	static boolean isVectorized()
+	{
+		return VECTORIZED;
+	}
+
+	/**
+	 * Возвращает позицию следующей границы слов.
+	 *
+	 * @param value массив символов.
+	 * @param from позиция, с которой начинается поиск.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @return позицию первого символа не раньше {@code from}, который является границей слов,
+	 * или {@code end}, если такого символа нет.
+	 */
+	static int next(final char @NotNull [] value, final int from, final int start, final int end)
+	{
+		if (VECTORIZED) {
+			return VectorBoundaryScanner.next(value, from, start, end);
+		}
+
+		return BoundaryScanner.nextScalar(value, from, start, end);
+	}
+
+	/**
+	 * Возвращает позицию следующей границы слов, проверяя символы по одному.
+	 *
+	 * @param value массив символов.
+	 * @param from позиция, с которой начинается поиск.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @return позицию первого символа не раньше {@code from}, который является границей слов,
+	 * или {@code end}, если такого символа нет.
+	 */
+	static int nextScalar(final char @NotNull [] value, final int from, final int start, final int end)
+	{
+		char previous = from > start ? value[from - 1] : Segmenter.NO_CHAR;
+
+		for (int index = from; index < end; index++)
+		{
+			final char symbol = value[index];
+			final char next = index + 1 < end ? value[index + 1] : Segmenter.NO_CHAR;
+
+			if (Segmenter.getBoundary(previous, symbol, next) != Segmenter.NONE) {
+				return index;
+			}
+
+			previous = symbol;
+		}
+
+		return end;
+	}
+
+	/**
+	 * Включает векторные операции, если загружен модуль {@code jdk.incubator.vector}.
+	 * <p>Модуль библиотеки получает право чтения модуля векторных операций во время выполнения,
+	 * поэтому модуль библиотеки не зависит от инкубаторного модуля.</p>
+	 *
+	 * @return {@code true}, если векторные операции доступны, иначе {@code false}.
+	 */
+	private static boolean enableVector()
+	{
+		final Optional<Module> module = ModuleLayer.boot().findModule(VECTOR_MODULE);
+
+		if (module.isEmpty()) {
+			return false;
+		}
+
+		try
+		{
+			BoundaryScanner.class.getModule().addReads(module.get());
+
+			return VectorBoundaryScanner.isSupported();
+		}
+		catch (LinkageError | RuntimeException exception)
+		{
+			return false;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.SeparatorType;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Класс поиска границ слов векторными операциями.
+ * <p>Символы блока загружаются тремя векторами со сдвигом на один символ: предыдущие, текущие
+ * и следующие. Для каждого вектора вычисляются маски классов символов, а из них — маска границ
+ * по правилам {@link Segmenter}. Символы не из ASCII в представлении {@code short} могут быть
+ * отрицательными и не попадают ни в один класс. Остаток массива короче вектора
+ * проверяется по одному символу.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class VectorBoundaryScanner
+{
+	/**
+	 * Предпочтительная для процессора форма вектора.
+	 */
+	private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+	/**
+	 * Количество символов в векторе.
+	 */
+	private static final int LANES = SPECIES.length();
+
+	/**
+	 * Символы разделителей из {@link SeparatorType}.
+	 * <p>Набор совпадает с разделителями {@link Segmenter#isSeparator(char)}.</p>
+	 */
+	private static final short @NotNull [] SEPARATORS;
+
+	static
+	{
+		short[] separators = new short[0];
+
+		for (SeparatorType separatorType : SeparatorType.values())
+		{
+			for (char symbol : separatorType.getSymbol().toCharArray())
+			{
+				separators = Arrays.copyOf(separators, separators.length + 1);
+				separators[separators.length - 1] = (short) symbol;
+			}
+		}
+
+		SEPARATORS = separators;
+	}
+
+	/**
+	 * Конструктор для {@code VectorBoundaryScanner}.
+	 */
+	private VectorBoundaryScanner() {}
+
+	/**
+	 * Проверяет, имеет ли смысл поиск границ векторными операциями.
+	 *
+	 * @return {@code true}, если вектор содержит не меньше восьми символов, иначе {@code false}.
+	 */
+	static boolean isSupported()
+	{
+		return LANES >= 8;
+	}
+
+	/**
+	 * Возвращает позицию следующей границы слов.
+	 *
+	 * @param value массив символов.
+	 * @param from позиция, с которой начинается поиск.
+	 * @param start начальная позиция составного слова в {@code value} включительно.
+	 * @param end конечная позиция составного слова в {@code value} не включительно.
+	 * @return позицию первого символа не раньше {@code from}, который является границей слов,
+	 * или {@code end}, если такого символа нет.
+	 */
+	static int next(final char @NotNull [] value, final int from, final int start, final int end)
+	{
+		int index = Math.max(from, start + 1);
+
+		while (index + LANES < end)
+		{
+			final ShortVector previous = ShortVector.fromCharArray(SPECIES, value, index - 1);
+			final ShortVector symbol = ShortVector.fromCharArray(SPECIES, value, index);
+			final ShortVector next = ShortVector.fromCharArray(SPECIES, value, index + 1);
+
+			final VectorMask<Short> nextLetterOrDigit = VectorBoundaryScanner.isLetterOrDigit(next);
+			final VectorMask<Short> split = VectorBoundaryScanner.isBetween(symbol, 'A', 'Z')
+				.and(VectorBoundaryScanner.isBetween(previous, 'a', 'z'))
+				.and(nextLetterOrDigit);
+			final VectorMask<Short> separator = VectorBoundaryScanner.isSeparator(symbol)
+				.and(VectorBoundaryScanner.isLetterOrDigit(previous))
+				.and(nextLetterOrDigit);
+			final VectorMask<Short> boundaries = split.or(separator);
+
+			if (boundaries.anyTrue()) {
+				return index + boundaries.firstTrue();
+			}
+
+			index += LANES;
+		}
+
+		return BoundaryScanner.nextScalar(value, Math.min(index, end), start, end);
+	}
+
+	/**
+	 * Возвращает маску символов в диапазоне.
+	 *
+	 * @param vector символы.
+	 * @param first первый символ диапазона.
+	 * @param last последний символ диапазона.
+	 * @return маску символов от {@code first} до {@code last} включительно.
+	 */
+	@NotNull
+	private static VectorMask<Short> isBetween(@NotNull final ShortVector vector, final char first, final char last)
+	{
+		return vector.compare(VectorOperators.GE, (short) first)
+					 .and(vector.compare(VectorOperators.LE, (short) last));
+	}
+
+	/**
+	 * Возвращает маску латинских букв и цифр.
+	 *
+	 * @param vector символы.
+	 * @return маску латинских букв и цифр.
+	 */
+	@NotNull
+	private static VectorMask<Short> isLetterOrDigit(@NotNull final ShortVector vector)
+	{
+		return VectorBoundaryScanner.isBetween(vector, 'a', 'z')
+			.or(VectorBoundaryScanner.isBetween(vector, 'A', 'Z'))
+			.or(VectorBoundaryScanner.isBetween(vector, '0', '9'));
+	}
+
+	/**
+	 * Возвращает маску символов разделителей из {@link SeparatorType}.
+	 *
+	 * @param vector символы.
+	 * @return маску разделителей.
+	 */
+	@NotNull
+	private static VectorMask<Short> isSeparator(@NotNull final ShortVector vector)
+	{
+		VectorMask<Short> mask = SPECIES.maskAll(false);
+
+		for (short separator : SEPARATORS) {
+			mask = mask.or(vector.compare(VectorOperators.EQ, separator));
+		}
+
+		return mask;
+	}
+}
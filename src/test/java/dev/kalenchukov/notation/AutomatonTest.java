@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import dev.kalenchukov.notation.resources.Regexp;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link Automaton}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class AutomatonTest
+{
+	/**
+	 * Символы, из которых составляются проверяемые строки.
+	 */
+	static final char[] ALPHABET = {'a', 'z', 'B', '0', '_', '-', '.', ' ', '\n', 'я'};
+
+	/**
+	 * Максимальная длина проверяемых строк.
+	 */
+	static final int MAX_LENGTH = 5;
+
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link Automaton#matches(CharSequence, NotationType)}.
+		 * <p>Результат сравнивается с регулярным выражением {@link Regexp}
+		 * на всех строках из символов {@link #ALPHABET} длиной до {@link #MAX_LENGTH}.</p>
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void matchesSameAsRegexp(NotationType notationType)
+		{
+			Pattern pattern = Regexp.valueOf(notationType.name()).getCompiledPattern();
+
+			AutomatonTest.forEachValue(value -> {
+				boolean expected = pattern.matcher(value).matches();
+
+				boolean actual = Automaton.matches(value, notationType);
+
+				assertThat(actual).as(value).isEqualTo(expected);
+			});
+		}
+
+		/**
+		 * Проверка времени работы метода {@link Automaton#matches(CharSequence, NotationType)}
+		 * на длинной почти соответствующей нотации строке.
+		 * <p>Время на строке в 4 раза длиннее должно расти линейно, а не квадратично;
+		 * ограничение времени только прерывает зависание.</p>
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		@Timeout(value = 60)
+		public void matchesLinearTime(NotationType notationType)
+		{
+			String shortValue = Notations.to("a1B".repeat(25_000), notationType) + "#";
+			String longValue = Notations.to("a1B".repeat(100_000), notationType) + "#";
+
+			long shortTime = measureTime(() -> assertThat(Automaton.matches(shortValue, notationType)).isFalse());
+			long longTime = measureTime(() -> assertThat(Automaton.matches(longValue, notationType)).isFalse());
+
+			assertThat(longTime).isLessThan(shortTime * 8);
+		}
+
+		/**
+		 * Проверка метода {@link Automaton#detect(CharSequence)}.
+		 * <p>Результат сравнивается с {@link Automaton#matches(CharSequence, NotationType)}
+		 * на всех строках из символов {@link #ALPHABET} длиной до {@link #MAX_LENGTH}.</p>
+		 */
+		@Test
+		public void detectSameAsMatches()
+		{
+			AutomatonTest.forEachValue(value -> {
+				int expected = 0;
+
+				for (NotationType notationType : NotationType.values())
+				{
+					if (Automaton.matches(value, notationType)) {
+						expected |= 1 << notationType.ordinal();
+					}
+				}
+
+				int actual = Automaton.detect(value);
+
+				assertThat(actual).as(value).isEqualTo(expected);
+			});
+		}
+	}
+
+	/**
+	 * Выполняет действие для каждой строки из символов {@link #ALPHABET} длиной до {@link #MAX_LENGTH}.
+	 *
+	 * @param action действие.
+	 */
+	static void forEachValue(Consumer<String> action)
+	{
+		char[] symbols = new char[MAX_LENGTH];
+
+		for (int length = 0; length <= MAX_LENGTH; length++)
+		{
+			int[] indexes = new int[length];
+
+			while (true)
+			{
+				for (int position = 0; position < length; position++) {
+					symbols[position] = ALPHABET[indexes[position]];
+				}
+
+				action.accept(new String(symbols, 0, length));
+
+				int position = length - 1;
+
+				while (position >= 0 && ++indexes[position] == ALPHABET.length) {
+					indexes[position--] = 0;
+				}
+
+				if (position < 0) {
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Возвращает наименьшее время выполнения действия из нескольких запусков.
+	 * <p>Первые запуски включают прогрев JIT и сборку мусора, поэтому берётся наименьшее время.</p>
+	 *
+	 * @param action действие.
+	 * @return время выполнения в наносекундах.
+	 */
+	private static long measureTime(Runnable action)
+	{
+		long minimumTime = Long.MAX_VALUE;
+
+		for (int run = 0; run < 5; run++)
+		{
+			long startTime = System.nanoTime();
+			action.run();
+			minimumTime = Math.min(minimumTime, System.nanoTime() - startTime);
+		}
+
+		return minimumTime;
+	}
+}
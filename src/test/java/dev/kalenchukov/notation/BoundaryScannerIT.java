@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.kalenchukov.notation;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки векторного поиска границ слов класса {@link BoundaryScanner}.
+ * <p>Выполняется в профиле {@code multi-release} на собранном jar-файле с параметром
+ * {@code --add-modules jdk.incubator.vector}, так как каталог {@code target/classes}
+ * не содержит классов из {@code META-INF/versions}.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+public class BoundaryScannerIT
+{
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link BoundaryScanner#isVectorized()}.
+		 */
+		@Test
+		public void isVectorized()
+		{
+			assertThat(BoundaryScanner.isVectorized()).isTrue();
+		}
+
+		/**
+		 * Проверка метода {@link BoundaryScanner#next(char[], int, int, int)}.
+		 * <p>Результат векторного поиска сравнивается с {@link BoundaryScanner#nextScalar(char[], int, int, int)}
+		 * на строках из символов {@link AutomatonTest#ALPHABET} длиннее нескольких векторов.</p>
+		 */
+		@Test
+		public void nextSameAsNextScalar()
+		{
+			BoundaryScannerIT.assertSameAsNextScalar(AutomatonTest.ALPHABET, new Random(21));
+		}
+
+		/**
+		 * Проверка метода {@link BoundaryScanner#next(char[], int, int, int)} на всех символах ASCII.
+		 * <p>Набор разделителей векторного поиска должен совпадать с {@link Segmenter#isSeparator(char)}.</p>
+		 */
+		@Test
+		public void nextSameAsNextScalarAscii()
+		{
+			char[] alphabet = new char[128];
+
+			for (char symbol = 0; symbol < alphabet.length; symbol++) {
+				alphabet[symbol] = symbol;
+			}
+
+			BoundaryScannerIT.assertSameAsNextScalar(alphabet, new Random(22));
+		}
+	}
+
+	/**
+	 * Сравнивает результат {@link BoundaryScanner#next(char[], int, int, int)}
+	 * с {@link BoundaryScanner#nextScalar(char[], int, int, int)} на случайных строках.
+	 *
+	 * @param alphabet символы строк.
+	 * @param random генератор случайных чисел.
+	 */
+	private static void assertSameAsNextScalar(char[] alphabet, Random random)
+	{
+		for (int attempt = 0; attempt < 1000; attempt++)
+		{
+			char[] source = new char[random.nextInt(200)];
+
+			for (int index = 0; index < source.length; index++) {
+				source[index] = alphabet[random.nextInt(alphabet.length)];
+			}
+
+			int start = source.length == 0 ? 0 : random.nextInt(source.length);
+
+			for (int from = start; from <= source.length; from++)
+			{
+				assertThat(BoundaryScanner.next(source, from, start, source.length))
+					.isEqualTo(BoundaryScanner.nextScalar(source, from, start, source.length));
+			}
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link BoundaryScanner}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class BoundaryScannerTest
+{
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link BoundaryScanner#next(char[], int, int, int)}.
+		 * <p>Результат сравнивается с {@link Segmenter#getBoundary(char, char, char)} на всех строках
+		 * из символов {@link AutomatonTest#ALPHABET} длиной до {@link AutomatonTest#MAX_LENGTH}
+		 * и всех начальных позициях поиска.</p>
+		 */
+		@Test
+		public void nextSameAsGetBoundary()
+		{
+			AutomatonTest.forEachValue(value -> {
+				char[] source = ("#" + value + "#").toCharArray();
+				int start = 1;
+				int end = source.length - 1;
+
+				for (int from = start; from <= end; from++)
+				{
+					int expected = end;
+
+					for (int index = from; index < end; index++)
+					{
+						char previous = index > start ? source[index - 1] : Segmenter.NO_CHAR;
+						char next = index + 1 < end ? source[index + 1] : Segmenter.NO_CHAR;
+
+						if (Segmenter.getBoundary(previous, source[index], next) != Segmenter.NONE)
+						{
+							expected = index;
+							break;
+						}
+					}
+
+					assertThat(BoundaryScanner.next(source, from, start, end)).as(value).isEqualTo(expected);
+				}
+			});
+		}
+
+		/**
+		 * Проверка метода {@link BoundaryScanner#next(char[], int, int, int)} на длинных строках.
+		 * <p>Длина строк превышает количество символов, проверяемых векторными операциями за один раз.</p>
+		 */
+		@Test
+		public void nextLongValue()
+		{
+			Random random = new Random(20);
+
+			for (int attempt = 0; attempt < 1000; attempt++)
+			{
+				char[] source = new char[random.nextInt(200)];
+
+				for (int index = 0; index < source.length; index++) {
+					source[index] = AutomatonTest.ALPHABET[random.nextInt(AutomatonTest.ALPHABET.length)];
+				}
+
+				int start = source.length == 0 ? 0 : random.nextInt(source.length);
+
+				for (int from = start; from <= source.length; from++)
+				{
+					assertThat(BoundaryScanner.next(source, from, start, source.length))
+						.isEqualTo(BoundaryScanner.nextScalar(source, from, start, source.length));
+				}
+			}
+		}
+
+		/**
+		 * Проверка метода {@link Converter#convert(char[], int, int, NotationType, char[], int)}.
+		 * <p>Результат сравнивается с {@link Converter#convert(CharSequence, NotationType)} на всех строках
+		 * из символов {@link AutomatonTest#ALPHABET} длиной до {@link AutomatonTest#MAX_LENGTH}.</p>
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void convertSameAsCharSequence(NotationType notationType)
+		{
+			AutomatonTest.forEachValue(value -> {
+				char[] source = ("#" + value + "#").toCharArray();
+				char[] destination = new char[source.length * 2 + 1];
+
+				int length = Converter.convert(source, 1, source.length - 1, notationType, destination, 1);
+
+				assertThat(new String(destination, 1, length))
+					.as(value)
+					.isEqualTo(Converter.convert(value, notationType));
+			});
+		}
+	}
+}
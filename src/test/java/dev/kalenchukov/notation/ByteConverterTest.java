@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link ByteConverter}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ByteConverterTest
+{
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link ByteConverter#matches(ByteBuffer, int, int, NotationType)}.
+		 * <p>Результат сравнивается с {@link Automaton#matches(CharSequence, NotationType)} на всех строках
+		 * из символов {@link AutomatonTest#ALPHABET} длиной до {@link AutomatonTest#MAX_LENGTH}.</p>
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void matches(NotationType notationType)
+		{
+			AutomatonTest.forEachValue(value -> {
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				boolean expected = Automaton.matches(value, notationType);
+
+				boolean actual = ByteConverter.matches(ByteBuffer.wrap(bytes), 0, bytes.length, notationType);
+
+				assertThat(actual).as(value).isEqualTo(expected);
+			});
+		}
+
+		/**
+		 * Проверка метода
+		 * {@link ByteConverter#convert(ByteBuffer, int, int, NotationType, ByteBuffer, int, int)}.
+		 * <p>Результат сравнивается с {@link Converter#convert(CharSequence, NotationType)} на всех строках
+		 * из символов {@link AutomatonTest#ALPHABET} длиной до {@link AutomatonTest#MAX_LENGTH}.</p>
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void convert(NotationType notationType)
+		{
+			ByteBuffer destination = ByteBuffer.allocateDirect(AutomatonTest.MAX_LENGTH * 4);
+
+			AutomatonTest.forEachValue(value -> {
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				byte[] expected = Converter.convert(value, notationType).getBytes(StandardCharsets.UTF_8);
+
+				int written = ByteConverter.convert(
+					ByteBuffer.wrap(bytes), 0, bytes.length, notationType, destination, 1, destination.capacity()
+				);
+				byte[] actual = new byte[written];
+				destination.get(1, actual);
+
+				assertThat(actual).as(value).isEqualTo(expected);
+			});
+		}
+
+		/**
+		 * Проверка метода
+		 * {@link ByteConverter#convert(ByteBuffer, int, int, NotationType, ByteBuffer, int, int)}
+		 * с исходным буфером вне кучи.
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void convertDirect(NotationType notationType)
+		{
+			ByteBuffer source = ByteBuffer.allocateDirect(AutomatonTest.MAX_LENGTH * 4 + 1);
+			ByteBuffer destination = ByteBuffer.allocateDirect(AutomatonTest.MAX_LENGTH * 4);
+
+			AutomatonTest.forEachValue(value -> {
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				byte[] expected = Converter.convert(value, notationType).getBytes(StandardCharsets.UTF_8);
+				source.put(1, bytes);
+
+				int written = ByteConverter.convert(
+					source, 1, bytes.length + 1, notationType, destination, 1, destination.capacity()
+				);
+				byte[] actual = new byte[written];
+				destination.get(1, actual);
+
+				assertThat(actual).as(value).isEqualTo(expected);
+			});
+		}
+
+		/**
+		 * Проверка метода
+		 * {@link ByteConverter#convert(ByteBuffer, int, int, NotationType, ByteBuffer, int, int)}
+		 * с недостаточным местом для результата.
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void convertOverflow(NotationType notationType)
+		{
+			for (String value : new String[] {"helloWorld", "привет_мир"})
+			{
+				byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				int expectedLength = Converter.convert(value, notationType).getBytes(StandardCharsets.UTF_8).length;
+				ByteBuffer destination = ByteBuffer.allocate(expectedLength);
+
+				int written = ByteConverter.convert(
+					ByteBuffer.wrap(bytes), 0, bytes.length, notationType, destination, 0, expectedLength - 1
+				);
+
+				assertThat(written).isEqualTo(~expectedLength);
+				assertThat(destination.array()).containsOnly(0);
+			}
+		}
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link Converter}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ConverterTest
+{
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link Converter#convert(CharSequence, NotationType)}.
+		 *
+		 * @param value проверяемое значение.
+		 * @param notationType тип нотации.
+		 * @param expectedString ожидаемая строка.
+		 */
+		@ParameterizedTest
+		@CsvSource(delimiter = ';', value = {
+			"hel1lo_000_world1; CAMEL_CASE; hel1lo000World1",
+			"hel1lo_000_world1; PASCAL_CASE; Hel1lo000World1",
+			"HEL1LO-000-WORLD1; UPPER_CASE; HEL1LO_000_WORLD1",
+			"hello1World; SNAKE_CASE; hello1world",
+			"hellOWorld; SNAKE_CASE; hell_oworld",
+			"_hello_; CAMEL_CASE; _hello_",
+			"hello__world; KEBAB_CASE; hello__world",
+			"hello+world; SNAKE_CASE; hello+world",
+			"привет_мир; UPPER_CASE; ПРИВЕТ_МИР",
+			"'' ; DOT_CASE; ''"
+		})
+		public void convert(String value, NotationType notationType, String expectedString)
+		{
+			String actualString = Converter.convert(value, notationType);
+
+			assertThat(actualString).isEqualTo(expectedString);
+		}
+
+		/**
+		 * Проверка метода {@link Converter#convert(CharSequence, NotationType)} с большим количеством слов.
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void convertManyWords(NotationType notationType)
+		{
+			String value = "Hello".repeat(50_000);
+			String expectedString = String.join("_", Collections.nCopies(50_000, "hello"));
+
+			String actualString = Converter.convert(value, notationType);
+
+			assertThat(Converter.convert(actualString, NotationType.SNAKE_CASE)).isEqualTo(expectedString);
+		}
+
+		/**
+		 * Проверка метода {@link Converter#measure(CharSequence, int, int, NotationType)}.
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void measure(NotationType notationType)
+		{
+			String value = "hello World-matrix_helloWorld.Matrix1";
+			int expectedLength = Converter.convert(value, notationType).length();
+
+			int actualLength = Converter.measure(value, 0, value.length(), notationType);
+
+			assertThat(actualLength).isEqualTo(expectedLength);
+		}
+	
+		/**
+		 * Проверка метода {@link Converter#measureIfChanged(CharSequence, int, int, NotationType)}.
+		 * <p>Результат сравнивается с записью в массив символов на всех строках
+		 * из символов {@link AutomatonTest#ALPHABET} длиной до {@link AutomatonTest#MAX_LENGTH}.</p>
+		 *
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void measureIfChanged(NotationType notationType)
+		{
+			char[] buffer = new char[AutomatonTest.MAX_LENGTH * 2];
+
+			AutomatonTest.forEachValue(value -> {
+				String converted = new String(
+					buffer, 0, Converter.convert(value, 0, value.length(), notationType, buffer, 0)
+				);
+				int expectedLength = converted.equals(value) ? Converter.UNCHANGED : converted.length();
+
+				int actualLength = Converter.measureIfChanged(value, 0, value.length(), notationType);
+
+				assertThat(actualLength).as(value).isEqualTo(expectedLength);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link Converter#convert(CharSequence, NotationType)}
+		 * со строкой, уже записанной в указанной нотации.
+		 *
+		 * @param value проверяемое значение.
+		 * @param notationType тип нотации.
+		 */
+		@ParameterizedTest
+		@CsvSource(delimiter = ';', value = {
+			"hello_world; SNAKE_CASE",
+			"helloWorld; CAMEL_CASE",
+			"HelloWorld; PASCAL_CASE",
+			"HELLO-WORLD; TRAIN_CASE",
+			"hello+world; KEBAB_CASE",
+			"'' ; DOT_CASE"
+		})
+		public void convertUnchanged(String value, NotationType notationType)
+		{
+			String actualString = Converter.convert(value, notationType);
+
+			assertThat(actualString).isSameAs(value);
+		}
+
+		/**
+		 * Проверка методов {@link Converter} с прописной буквой в конце строки.
+		 * <p>Последняя прописная буква не начинает новое слово, так как за ней нет буквы или цифры.
+		 * Результат одинаков при записи в строку, в {@link Appendable} и в массив символов.</p>
+		 *
+		 * @param value проверяемое значение.
+		 * @param notationType тип нотации.
+		 * @param expectedString ожидаемая строка.
+		 * @throws IOException при ошибке записи в {@link Appendable}.
+		 */
+		@ParameterizedTest
+		@CsvSource(delimiter = ';', value = {
+			"aAaA; SNAKE_CASE; a_aaa",
+			"aAaA; PASCAL_CASE; AAaa",
+			"helloWorldX; KEBAB_CASE; hello-worldx",
+			"userIdA; UPPER_CASE; USER_IDA"
+		})
+		public void convertTrailingUpperCase(String value, NotationType notationType, String expectedString)
+			throws IOException
+		{
+			StringBuilder builder = new StringBuilder();
+			Converter.convert(value, 0, value.length(), notationType, builder);
+			char[] destination = new char[Converter.measure(value, 0, value.length(), notationType)];
+			Converter.convert(value.toCharArray(), 0, value.length(), notationType, destination, 0);
+
+			assertThat(Converter.convert(value, notationType)).isEqualTo(expectedString);
+			assertThat(builder.toString()).isEqualTo(expectedString);
+			assertThat(new String(destination)).isEqualTo(expectedString);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link IdentifierRewriter}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class IdentifierRewriterTest
+{
+	/**
+	 * Символы случайных текстов.
+	 */
+	private static final char[] SYMBOLS = {'a', 'b', 'Z', '1', '_', '-', '.', ' ', '=', '\n', 'я'};
+
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link IdentifierRewriter#rewrite(java.io.Reader, java.io.Writer, NotationType, NotationType)}.
+		 *
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@Test
+		public void rewrite() throws IOException
+		{
+			String text = """
+				server.port=8080
+				max-pool-size=10
+				# see max-pool-size docs.
+				""";
+			StringWriter writer = new StringWriter();
+
+			IdentifierRewriter.rewrite(new StringReader(text), writer, NotationType.KEBAB_CASE, NotationType.DOT_CASE);
+
+			assertThat(writer.toString()).isEqualTo("""
+				server.port=8080
+				max.pool.size=10
+				# see max.pool.size docs.
+				""");
+		}
+
+		/**
+		 * Проверка метода {@link IdentifierRewriter#rewrite(java.io.Reader, java.io.Writer, NotationType, NotationType)}
+		 * с составными словами, в которых есть разделители других нотаций.
+		 *
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@Test
+		public void rewriteMixedSeparators() throws IOException
+		{
+			StringWriter kebab = new StringWriter();
+			StringWriter snake = new StringWriter();
+
+			IdentifierRewriter.rewrite(
+				new StringReader("server.max-pool-size=10"), kebab, NotationType.KEBAB_CASE, NotationType.SNAKE_CASE
+			);
+			IdentifierRewriter.rewrite(
+				new StringReader("my_var.field = other-var_name"), snake, NotationType.SNAKE_CASE, NotationType.CAMEL_CASE
+			);
+
+			assertThat(kebab.toString()).isEqualTo("server.max_pool_size=10");
+			assertThat(snake.toString()).isEqualTo("myVar.field = other-varName");
+		}
+
+		/**
+		 * Проверка метода {@link IdentifierRewriter#rewrite(java.io.Reader, java.io.Writer, NotationType, NotationType)}
+		 * с отдельными словами текста.
+		 * <p>Отдельное слово соответствует нотациям Upper Case, Pascal Case или Train Case,
+		 * но не является составным словом и не изменяется.</p>
+		 *
+		 * @param notationType исходная нотация.
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@ParameterizedTest
+		@EnumSource(value = NotationType.class, names = {"UPPER_CASE", "PASCAL_CASE", "TRAIN_CASE"})
+		public void rewriteSingleWords(NotationType notationType) throws IOException
+		{
+			String text = "Hello World. See HTTP docs, A user.";
+			StringWriter writer = new StringWriter();
+
+			IdentifierRewriter.rewrite(new StringReader(text), writer, notationType, NotationType.SNAKE_CASE);
+
+			assertThat(writer.toString()).isEqualTo(text);
+		}
+
+		/**
+		 * Проверка метода {@link IdentifierRewriter#rewrite(java.io.Reader, java.io.Writer, NotationType, NotationType)}
+		 * на случайных текстах.
+		 * <p>Результат сравнивается с заменой составных слов исходной нотации из нескольких слов
+		 * на результат {@link Notations#to(String, NotationType)}.</p>
+		 *
+		 * @param bufferSize размер буферов.
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@ParameterizedTest
+		@ValueSource(ints = {128, 8192})
+		public void rewriteSameAsScanner(int bufferSize) throws IOException
+		{
+			NotationType[] notationTypes = NotationType.values();
+			Random random = new Random(25);
+
+			for (int attempt = 0; attempt < 2_000; attempt++)
+			{
+				char[] symbols = new char[random.nextInt(100)];
+
+				for (int index = 0; index < symbols.length; index++) {
+					symbols[index] = SYMBOLS[random.nextInt(SYMBOLS.length)];
+				}
+
+				String text = new String(symbols);
+				NotationType from = notationTypes[random.nextInt(notationTypes.length)];
+				NotationType to = notationTypes[random.nextInt(notationTypes.length)];
+				StringWriter writer = new StringWriter();
+
+				IdentifierRewriter.rewrite(new StringReader(text), writer, from, to, bufferSize);
+
+				assertThat(writer.toString()).as(text).isEqualTo(IdentifierRewriterTest.expected(text, from, to));
+			}
+		}
+
+		/**
+		 * Проверка метода {@link IdentifierRewriter#rewrite(java.io.Reader, java.io.Writer, NotationType, NotationType)}
+		 * с составными словами длиннее буфера.
+		 *
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@Test
+		public void rewriteLongToken() throws IOException
+		{
+			String text = "a-b max-pool-size c-d.";
+			StringWriter writer = new StringWriter();
+
+			IdentifierRewriter.rewrite(new StringReader(text), writer, NotationType.KEBAB_CASE, NotationType.DOT_CASE, 4);
+
+			assertThat(writer.toString()).isEqualTo("a.b max-pool-size c.d.");
+		}
+	}
+
+	/**
+	 * Возвращает текст, в котором составные слова исходной нотации записаны в нотации результата.
+	 * <p>Составное слово состоит из букв, цифр и разделителя исходной нотации без разделителей
+	 * в начале и в конце и изменяется, если соответствует исходной нотации и состоит больше
+	 * чем из одного слова.</p>
+	 *
+	 * @param text текст.
+	 * @param from исходная нотация.
+	 * @param to нотация результата.
+	 * @return текст с изменённой нотацией составных слов.
+	 */
+	private static String expected(String text, NotationType from, NotationType to)
+	{
+		char separator = Converter.getSeparator(from);
+		StringBuilder expected = new StringBuilder();
+		int index = 0;
+
+		while (index < text.length())
+		{
+			if (NotationScanner.getKind(text.charAt(index)) != NotationScanner.WORD)
+			{
+				expected.append(text.charAt(index++));
+
+				continue;
+			}
+
+			int end = index;
+			int wordEnd = index;
+
+			while (end < text.length())
+			{
+				char symbol = text.charAt(end);
+				byte kind = NotationScanner.getKind(symbol);
+
+				if (kind == NotationScanner.WORD) {
+					wordEnd = end + 1;
+				}
+				else if (kind != NotationScanner.SEPARATOR || symbol != separator) {
+					break;
+				}
+
+				end++;
+			}
+
+			String token = text.substring(index, wordEnd);
+
+			if (Notations.is(token, from) && ParsedIdentifier.parse(token).getWordCount() > 1) {
+				expected.append(Notations.to(token, to));
+			} else {
+				expected.append(token);
+			}
+
+			expected.append(text, wordEnd, end);
+			index = end;
+		}
+
+		return expected.toString();
+	}
+}
\ No newline at end of file
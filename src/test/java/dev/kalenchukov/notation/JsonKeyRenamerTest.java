@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс проверки методов класса {@link JsonKeyRenamer}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class JsonKeyRenamerTest
+{
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link JsonKeyRenamer#rename(java.io.Reader, java.io.Writer, NotationType)}.
+		 *
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@Test
+		public void rename() throws IOException
+		{
+			String value = """
+				{"user_id": 1, "full_name" : "first_name", "tags": ["snake_case", {"is_admin": true}],
+				 "nested_object": {"created_at": null, "quote_\\"key": "a\\"b", "empty": {}}, "": []}
+				""";
+			String expectedString = """
+				{"userId": 1, "fullName" : "first_name", "tags": ["snake_case", {"isAdmin": true}],
+				 "nestedObject": {"createdAt": null, "quote_\\"key": "a\\"b", "empty": {}}, "": []}
+				""";
+
+			String actualString = JsonKeyRenamerTest.rename(value, NotationType.CAMEL_CASE);
+
+			assertThat(actualString).isEqualTo(expectedString);
+		}
+
+		/**
+		 * Проверка метода {@link JsonKeyRenamer#rename(java.io.Reader, java.io.Writer, NotationType)}
+		 * с JSON больше буфера чтения.
+		 *
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@Test
+		public void renameLarge() throws IOException
+		{
+			String value = "[" + "{\"user_account_id\":\"user_account_id\"},".repeat(10_000) + "{}]";
+			String expectedString = "[" + "{\"USER-ACCOUNT-ID\":\"user_account_id\"},".repeat(10_000) + "{}]";
+
+			String actualString = JsonKeyRenamerTest.rename(value, NotationType.TRAIN_CASE);
+
+			assertThat(actualString).isEqualTo(expectedString);
+		}
+
+		/**
+		 * Проверка метода {@link JsonKeyRenamer#rename(java.io.Reader, java.io.Writer, NotationType)}
+		 * с некорректным JSON.
+		 *
+		 * @param value проверяемое значение.
+		 */
+		@ParameterizedTest
+		@ValueSource(strings = {"{\"a\": 1", "{\"a\": 1]", "]", "{\"a\": \"b}"})
+		public void renameMalformed(String value)
+		{
+			assertThatThrownBy(() -> JsonKeyRenamerTest.rename(value, NotationType.CAMEL_CASE))
+				.isInstanceOf(IOException.class);
+		}
+	}
+
+	/**
+	 * Возвращает JSON с изменённой нотацией имён членов объектов.
+	 *
+	 * @param value JSON.
+	 * @param notationType тип нотации.
+	 * @return JSON с изменённой нотацией имён.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private static String rename(String value, NotationType notationType) throws IOException
+	{
+		StringWriter writer = new StringWriter();
+
+		JsonKeyRenamer.rename(new StringReader(value), writer, notationType);
+
+		return writer.toString();
+	}
+}
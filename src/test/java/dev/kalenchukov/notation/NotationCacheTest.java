@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс проверки методов класса {@link NotationCache}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class NotationCacheTest
+{
+	/**
+	 * Класс проверки методов объекта.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Instance
+	{
+		/**
+		 * Проверка метода {@link NotationCache#to(String, NotationType)}.
+		 */
+		@Test
+		public void to()
+		{
+			NotationCache cache = new NotationCache(10);
+
+			assertThat(cache.to("helloWorld", NotationType.SNAKE_CASE)).isEqualTo("hello_world");
+			assertThat(cache.to("helloWorld", NotationType.SNAKE_CASE)).isEqualTo("hello_world");
+			assertThat(cache.to("helloWorld", NotationType.KEBAB_CASE)).isEqualTo("hello-world");
+
+			assertThat(cache.size()).isEqualTo(2);
+			assertThat(cache.getHitCount()).isEqualTo(1);
+			assertThat(cache.getMissCount()).isEqualTo(2);
+			assertThat(cache.getEvictionCount()).isZero();
+		}
+
+		/**
+		 * Проверка метода {@link NotationCache#to(String, NotationType)} с вытеснением.
+		 * Часто запрашиваемая запись не вытесняется.
+		 */
+		@Test
+		public void toEviction()
+		{
+			NotationCache cache = new NotationCache(3);
+
+			cache.to("hotValue", NotationType.SNAKE_CASE);
+			cache.to("hotValue", NotationType.SNAKE_CASE);
+
+			for (int index = 0; index < 20; index++)
+			{
+				cache.to("coldValue" + index, NotationType.SNAKE_CASE);
+				cache.to("hotValue", NotationType.SNAKE_CASE);
+			}
+
+			long missCount = cache.getMissCount();
+			cache.to("hotValue", NotationType.SNAKE_CASE);
+
+			assertThat(cache.size()).isEqualTo(3);
+			assertThat(cache.getMissCount()).isEqualTo(missCount);
+			assertThat(cache.getEvictionCount()).isEqualTo(18);
+		}
+
+		/**
+		 * Проверка метода {@link NotationCache#to(String, NotationType)} из нескольких потоков
+		 * с вытеснением.
+		 */
+		@Test
+		public void toConcurrent()
+		{
+			NotationCache cache = new NotationCache(20);
+
+			List<String> actualStrings = IntStream.range(0, 100_000)
+				.parallel()
+				.mapToObj(index -> cache.to("helloWorld" + index % 50, NotationType.SNAKE_CASE))
+				.toList();
+
+			List<String> expectedStrings = IntStream.range(0, 100_000)
+				.mapToObj(index -> "hello_world" + index % 50)
+				.toList();
+
+			assertThat(actualStrings).isEqualTo(expectedStrings);
+			assertThat(cache.size()).isEqualTo(20);
+			assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(100_000);
+		}
+
+		/**
+		 * Проверка метода {@link NotationCache#clear()}.
+		 */
+		@Test
+		public void clear()
+		{
+			NotationCache cache = new NotationCache(10);
+			cache.to("helloWorld", NotationType.SNAKE_CASE);
+
+			cache.clear();
+			cache.to("helloWorld", NotationType.SNAKE_CASE);
+
+			assertThat(cache.size()).isEqualTo(1);
+			assertThat(cache.getMissCount()).isEqualTo(2);
+		}
+
+		/**
+		 * Проверка конструктора {@link NotationCache#NotationCache(int)} с некорректным размером.
+		 */
+		@Test
+		public void constructorIllegalSize()
+		{
+			assertThatThrownBy(() -> new NotationCache(0))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
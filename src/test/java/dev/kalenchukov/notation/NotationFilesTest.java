@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс проверки методов класса {@link NotationFiles}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class NotationFilesTest
+{
+	/**
+	 * Строки файла.
+	 */
+	private static final String CONTENT = """
+		helloWorld
+		hello_world\r
+		ПриветМир
+
+		user-account-id
+		a""".repeat(200);
+
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link NotationFiles#convert(Path, Path, NotationType, ForkJoinPool, int)}
+		 * с разными размерами частей файла.
+		 *
+		 * @param chunkSize размер части файла.
+		 * @param directory временный каталог.
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@ParameterizedTest
+		@ValueSource(ints = {1, 7, 64, 1 << 20})
+		public void convert(int chunkSize, @TempDir Path directory) throws IOException
+		{
+			Path source = Files.writeString(directory.resolve("source.txt"), CONTENT);
+			Path target = directory.resolve("target.txt");
+			ForkJoinPool pool = new ForkJoinPool(2);
+
+			try
+			{
+				NotationFiles.convert(source, target, NotationType.SNAKE_CASE, pool, chunkSize);
+			}
+			finally
+			{
+				pool.shutdown();
+			}
+
+			assertThat(Files.readString(target)).isEqualTo(NotationFilesTest.expected(NotationType.SNAKE_CASE));
+		}
+
+		/**
+		 * Проверка метода {@link NotationFiles#convert(Path, Path, NotationType, ForkJoinPool, int, int)}
+		 * с линиями, для которых часть файла увеличивается до максимального размера.
+		 *
+		 * @param directory временный каталог.
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@Test
+		public void convertLongLine(@TempDir Path directory) throws IOException
+		{
+			String content = "a\n" + "helloWorld".repeat(3) + "\nb";
+			Path source = Files.writeString(directory.resolve("source.txt"), content);
+			Path target = directory.resolve("target.txt");
+
+			NotationFiles.convert(source, target, NotationType.SNAKE_CASE, ForkJoinPool.commonPool(), 1, 32);
+
+			assertThat(Files.readString(target)).isEqualTo("a\n" + "hello_worldhello_worldhello_world" + "\nb");
+		}
+
+		/**
+		 * Проверка метода {@link NotationFiles#convert(Path, Path, NotationType, ForkJoinPool, int, int)}
+		 * с линией длиннее максимального размера части файла.
+		 *
+		 * @param directory временный каталог.
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@Test
+		public void convertTooLongLine(@TempDir Path directory) throws IOException
+		{
+			Path source = Files.writeString(directory.resolve("source.txt"), "a\n" + "b".repeat(40) + "\nc");
+			Path target = directory.resolve("target.txt");
+
+			assertThatThrownBy(() -> NotationFiles.convert(
+				source, target, NotationType.SNAKE_CASE, ForkJoinPool.commonPool(), 4, 16
+			))
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("16");
+		}
+
+		/**
+		 * Проверка метода {@link NotationFiles#convert(Path, Path, NotationType)}.
+		 *
+		 * @param directory временный каталог.
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@Test
+		public void convertDefault(@TempDir Path directory) throws IOException
+		{
+			Path source = Files.writeString(directory.resolve("source.txt"), CONTENT + "\n");
+			Path target = Files.writeString(directory.resolve("target.txt"), "old content that is longer");
+
+			NotationFiles.convert(source, target, NotationType.PASCAL_CASE);
+
+			assertThat(Files.readString(target)).isEqualTo(NotationFilesTest.expected(NotationType.PASCAL_CASE) + "\n");
+		}
+
+		/**
+		 * Проверка метода {@link NotationFiles#convert(Path, Path, NotationType)} с пустым файлом.
+		 *
+		 * @param directory временный каталог.
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@Test
+		public void convertEmpty(@TempDir Path directory) throws IOException
+		{
+			Path source = Files.writeString(directory.resolve("source.txt"), "");
+			Path target = directory.resolve("target.txt");
+
+			NotationFiles.convert(source, target, NotationType.CAMEL_CASE);
+
+			assertThat(Files.readAllBytes(target)).isEmpty();
+		}
+	}
+
+	/**
+	 * Возвращает строки файла, преобразованные по одной.
+	 *
+	 * @param notationType тип нотации.
+	 * @return строки файла в указанной нотации.
+	 */
+	private static String expected(NotationType notationType)
+	{
+		return Arrays.stream(CONTENT.split("\n", -1))
+			.map(line -> Notations.to(line, notationType))
+			.collect(Collectors.joining("\n"));
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс проверки методов класса {@link NotationInsensitiveMap}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class NotationInsensitiveMapTest
+{
+	/**
+	 * Класс проверки методов объекта.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Instance
+	{
+		/**
+		 * Проверка метода {@link NotationInsensitiveMap#get(Object)} с ключами в разных нотациях.
+		 */
+		@Test
+		public void get()
+		{
+			NotationInsensitiveMap<Integer> map = new NotationInsensitiveMap<>();
+
+			map.put("maxPoolSize", 10);
+
+			assertThat(map.get("max-pool-size")).isEqualTo(10);
+			assertThat(map.get("MAX_POOL_SIZE")).isEqualTo(10);
+			assertThat(map.get(new StringBuilder("max.pool.size"))).isEqualTo(10);
+			assertThat(map.get("maxPool")).isNull();
+			assertThat(map.get(10)).isNull();
+			assertThat(map.containsKey("Max-Pool-Size")).isTrue();
+			assertThat(map.containsKey("maxpoolsize")).isFalse();
+		}
+
+		/**
+		 * Проверка метода {@link NotationInsensitiveMap#put(String, Object)} с ключом,
+		 * равным существующему без учёта нотации.
+		 */
+		@Test
+		public void putReplacesValue()
+		{
+			NotationInsensitiveMap<Integer> map = new NotationInsensitiveMap<>();
+
+			assertThat(map.put("maxPoolSize", 10)).isNull();
+			assertThat(map.put("MAX_POOL_SIZE", 20)).isEqualTo(10);
+
+			assertThat(map).hasSize(1);
+			assertThat(map).containsEntry("maxPoolSize", 20);
+		}
+
+		/**
+		 * Проверка метода {@link NotationInsensitiveMap#remove(Object)}.
+		 */
+		@Test
+		public void remove()
+		{
+			NotationInsensitiveMap<Integer> map = new NotationInsensitiveMap<>();
+
+			map.put("maxPoolSize", 10);
+			map.put("minPoolSize", 1);
+
+			assertThat(map.remove("max-pool-size")).isEqualTo(10);
+			assertThat(map.remove("max-pool-size")).isNull();
+			assertThat(map.get("maxPoolSize")).isNull();
+			assertThat(map.get("min_pool_size")).isEqualTo(1);
+
+			map.put("MAX_POOL_SIZE", 30);
+
+			assertThat(map).hasSize(2);
+			assertThat(map.get("maxPoolSize")).isEqualTo(30);
+		}
+
+		/**
+		 * Проверка методов {@link NotationInsensitiveMap} на случайных изменениях.
+		 * <p>Результаты сравниваются с {@link HashMap}, ключами которого являются записи
+		 * в нотации Snake Case.</p>
+		 */
+		@Test
+		public void sameAsSnakeCaseHashMap()
+		{
+			NotationType[] notationTypes = NotationType.values();
+			Random random = new Random(22);
+			NotationInsensitiveMap<Integer> map = new NotationInsensitiveMap<>();
+			Map<String, Integer> expected = new HashMap<>();
+
+			for (int step = 0; step < 100_000; step++)
+			{
+				String key = Notations.to(
+					"config_key_" + random.nextInt(2_000), notationTypes[random.nextInt(notationTypes.length)]
+				);
+				String snakeKey = Notations.toSnakeCase(key);
+
+				switch (random.nextInt(3))
+				{
+					case 0 -> assertThat(map.put(key, step)).isEqualTo(expected.put(snakeKey, step));
+					case 1 -> assertThat(map.remove(key)).isEqualTo(expected.remove(snakeKey));
+					default -> assertThat(map.get(key)).isEqualTo(expected.get(snakeKey));
+				}
+
+				assertThat(map.size()).isEqualTo(expected.size());
+			}
+
+			map.forEach((key, value) -> assertThat(expected.get(Notations.toSnakeCase(key))).isEqualTo(value));
+		}
+
+		/**
+		 * Проверка метода {@link Iterator#remove()} итератора записей.
+		 */
+		@Test
+		public void iteratorRemove()
+		{
+			NotationInsensitiveMap<Integer> map = new NotationInsensitiveMap<>();
+
+			for (int index = 0; index < 100; index++) {
+				map.put("key_" + index + "_value", index);
+			}
+
+			Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+
+			while (iterator.hasNext())
+			{
+				if (iterator.next().getValue() % 2 == 0) {
+					iterator.remove();
+				}
+			}
+
+			assertThat(map).hasSize(50);
+			assertThat(map.get("Key-1-Value")).isEqualTo(1);
+			assertThat(map.get("KEY_2_VALUE")).isNull();
+		}
+
+		/**
+		 * Проверка метода {@link Map.Entry#setValue(Object)} записи отображения.
+		 */
+		@Test
+		public void entrySetValue()
+		{
+			NotationInsensitiveMap<Integer> map = new NotationInsensitiveMap<>(Map.of("maxPoolSize", 10));
+
+			map.entrySet().iterator().next().setValue(20);
+
+			assertThat(map.get("max-pool-size")).isEqualTo(20);
+		}
+
+		/**
+		 * Проверка итератора записей при изменении отображения в обход итератора.
+		 */
+		@Test
+		public void iteratorConcurrentModification()
+		{
+			NotationInsensitiveMap<Integer> map = new NotationInsensitiveMap<>(Map.of("first", 1, "second", 2));
+			Iterator<String> iterator = map.keySet().iterator();
+
+			iterator.next();
+			map.put("third", 3);
+
+			assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+		}
+
+		/**
+		 * Проверка конструктора {@link NotationInsensitiveMap#NotationInsensitiveMap(int)}
+		 * с отрицательным количеством записей.
+		 */
+		@Test
+		public void constructorNegativeSize()
+		{
+			assertThatThrownBy(() -> new NotationInsensitiveMap<>(-1))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
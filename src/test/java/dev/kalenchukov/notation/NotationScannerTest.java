@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс проверки методов класса {@link NotationScanner}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class NotationScannerTest
+{
+	/**
+	 * Символы случайных текстов.
+	 */
+	private static final char[] SYMBOLS = {'a', 'b', 'Z', '1', '_', '-', '.', ' ', ',', '\n', 'я'};
+
+	/**
+	 * Класс проверки методов объекта.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Instance
+	{
+		/**
+		 * Проверка метода {@link NotationScanner#scan(CharSequence, NotationScanner.MatchHandler)}.
+		 */
+		@Test
+		public void scan()
+		{
+			String text = "Set max_pool_size, userId and HTTP-SERVER. See my-key.";
+			List<String> actual = new ArrayList<>();
+
+			new NotationScanner().scan(text, (offset, length, mask) ->
+				actual.add(text.substring((int) offset, (int) (offset + length)) + " " + Automaton.toNotationTypes(mask))
+			);
+
+			assertThat(actual).containsExactly(
+				"Set [PASCAL_CASE]",
+				"max_pool_size [SNAKE_CASE]",
+				"userId [CAMEL_CASE]",
+				"and [KEBAB_CASE, SNAKE_CASE, CAMEL_CASE, DOT_CASE]",
+				"HTTP-SERVER [TRAIN_CASE]",
+				"See [PASCAL_CASE]",
+				"my-key [KEBAB_CASE]"
+			);
+		}
+
+		/**
+		 * Проверка метода {@link NotationScanner#scan(CharSequence, NotationScanner.MatchHandler)}
+		 * с выбранными нотациями.
+		 */
+		@Test
+		public void scanSelectedNotationTypes()
+		{
+			String text = "userId user_id USER_ID, word";
+			List<Long> offsets = new ArrayList<>();
+
+			new NotationScanner(EnumSet.of(NotationType.SNAKE_CASE, NotationType.UPPER_CASE))
+				.scan(text, (offset, length, mask) -> {
+					assertThat(mask & ~(1 << NotationType.SNAKE_CASE.ordinal() | 1 << NotationType.UPPER_CASE.ordinal()))
+						.isZero();
+
+					offsets.add(offset);
+				});
+
+			assertThat(offsets).containsExactly(7L, 15L, 24L);
+		}
+
+		/**
+		 * Проверка метода {@link NotationScanner#scan(java.io.Reader, NotationScanner.MatchHandler)}
+		 * на случайных текстах.
+		 * <p>Результат сравнивается с разбиением текста на лексемы и проверкой каждой лексемы
+		 * методом {@link Automaton#detect(CharSequence)}.</p>
+		 *
+		 * @param bufferSize размер блока чтения.
+		 * @throws IOException если произошла ошибка ввода-вывода.
+		 */
+		@ParameterizedTest
+		@ValueSource(ints = {1, 3, 8192})
+		public void scanSameAsDetect(int bufferSize) throws IOException
+		{
+			Random random = new Random(24);
+			NotationScanner scanner = new NotationScanner();
+
+			for (int attempt = 0; attempt < 500; attempt++)
+			{
+				char[] symbols = new char[random.nextInt(100)];
+
+				for (int index = 0; index < symbols.length; index++) {
+					symbols[index] = SYMBOLS[random.nextInt(SYMBOLS.length)];
+				}
+
+				String text = new String(symbols);
+				List<String> actual = new ArrayList<>();
+
+				scanner.scan(new StringReader(text), (offset, length, mask) -> actual.add(offset + ":" + length + ":" + mask), bufferSize);
+
+				assertThat(actual).as(text).containsExactlyElementsOf(NotationScannerTest.expected(text));
+			}
+		}
+
+		/**
+		 * Проверка конструктора {@link NotationScanner#NotationScanner(Set)} без нотаций.
+		 */
+		@Test
+		public void constructorEmpty()
+		{
+			assertThatThrownBy(() -> new NotationScanner(Set.of()))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	/**
+	 * Возвращает найденные составные слова, разбивая текст на лексемы перебором.
+	 *
+	 * @param text текст.
+	 * @return записи в виде {@code позиция:длина:маска}.
+	 */
+	private static List<String> expected(String text)
+	{
+		List<String> expected = new ArrayList<>();
+		int index = 0;
+
+		while (index < text.length())
+		{
+			if (!isTokenSymbol(text.charAt(index)))
+			{
+				index++;
+				continue;
+			}
+
+			int end = index;
+
+			while (end < text.length() && isTokenSymbol(text.charAt(end))) {
+				end++;
+			}
+
+			int start = index;
+			int last = end;
+
+			while (start < last && Segmenter.isSeparator(text.charAt(start))) {
+				start++;
+			}
+
+			while (last > start && Segmenter.isSeparator(text.charAt(last - 1))) {
+				last--;
+			}
+
+			int mask = Automaton.detect(text.substring(start, last));
+
+			if (start < last && mask != 0) {
+				expected.add(start + ":" + (last - start) + ":" + mask);
+			}
+
+			index = end;
+		}
+
+		return expected;
+	}
+
+	/**
+	 * Проверяет, входит ли символ в лексемы.
+	 *
+	 * @param symbol символ.
+	 * @return {@code true}, если символ является буквой, цифрой или одним из символов {@literal «_-.»}.
+	 */
+	private static boolean isTokenSymbol(char symbol)
+	{
+		return Character.isLetterOrDigit(symbol) || symbol == '_' || symbol == '-' || symbol == '.';
+	}
+}
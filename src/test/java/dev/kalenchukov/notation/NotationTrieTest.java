@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link NotationTrie}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class NotationTrieTest
+{
+	/**
+	 * Составные слова для проверки.
+	 */
+	private static final List<String> VALUES = List.of(
+		"userAccountId", "USER_ACCOUNT", "user-access", "user", "username", "userId", "user_id", "accountUser"
+	);
+
+	/**
+	 * Класс проверки методов объекта.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Instance
+	{
+		/**
+		 * Проверка метода {@link NotationTrie#find(CharSequence)} с префиксами в разных нотациях.
+		 *
+		 * @param prefix префикс.
+		 */
+		@ParameterizedTest
+		@ValueSource(strings = {"user_acc", "userAcc", "USER-ACC", "User.Acc"})
+		public void find(String prefix)
+		{
+			NotationTrie trie = new NotationTrie(VALUES);
+
+			assertThat(trie.find(prefix)).containsExactly("user-access", "USER_ACCOUNT", "userAccountId");
+		}
+
+		/**
+		 * Проверка метода {@link NotationTrie#find(CharSequence)} с последним словом, которое является
+		 * началом слова.
+		 */
+		@Test
+		public void findPartialWord()
+		{
+			NotationTrie trie = new NotationTrie(VALUES);
+
+			assertThat(trie.find("user")).containsExactlyInAnyOrder(
+				"user", "userAccountId", "USER_ACCOUNT", "user-access", "userId", "user_id", "username"
+			);
+			assertThat(trie.find("us")).hasSize(7);
+			assertThat(trie.find("acc")).containsExactly("accountUser");
+			assertThat(trie.find("userX")).isEmpty();
+			assertThat(trie.find("userA")).containsExactly("user-access", "USER_ACCOUNT", "userAccountId");
+			assertThat(trie.find("USER_A")).containsExactly("user-access", "USER_ACCOUNT", "userAccountId");
+			assertThat(trie.find("userI")).containsExactlyInAnyOrder("userId", "user_id");
+			assertThat(trie.find("")).hasSize(VALUES.size());
+		}
+
+		/**
+		 * Проверка метода {@link NotationTrie#find(CharSequence)} с прописной буквой в конце префикса
+		 * после строчной.
+		 * <p>Прописная буква начинает новое слово, поэтому слитное {@code useradmin} не находится.</p>
+		 */
+		@Test
+		public void findTrailingUpperCase()
+		{
+			NotationTrie trie = new NotationTrie(
+				List.of("userAccountId", "USER_ACCOUNT", "user-access", "userName", "useradmin")
+			);
+
+			assertThat(trie.find("userA")).containsExactly("user-access", "USER_ACCOUNT", "userAccountId");
+			assertThat(trie.find("userAc")).containsExactly("user-access", "USER_ACCOUNT", "userAccountId");
+			assertThat(trie.find("user_a")).containsExactly("user-access", "USER_ACCOUNT", "userAccountId");
+			assertThat(trie.find("usera")).containsExactly("useradmin");
+		}
+
+		/**
+		 * Проверка метода {@link NotationTrie#find(CharSequence)} с разделителем в конце префикса.
+		 */
+		@Test
+		public void findCompletedWord()
+		{
+			NotationTrie trie = new NotationTrie(VALUES);
+
+			assertThat(trie.find("user_")).containsExactlyInAnyOrder(
+				"userAccountId", "USER_ACCOUNT", "user-access", "userId", "user_id"
+			);
+			assertThat(trie.find("user-id-")).isEmpty();
+		}
+
+		/**
+		 * Проверка метода {@link NotationTrie#find(CharSequence)} на случайных составных словах.
+		 * <p>Результат сравнивается с перебором всех составных слов, префикс которых в нотации
+		 * Snake Case совпадает с префиксом запроса.</p>
+		 */
+		@Test
+		public void findSameAsScan()
+		{
+			String[] words = {"a", "ab", "abc", "b", "ba", "user", "id", "x1"};
+			NotationType[] notationTypes = NotationType.values();
+			Random random = new Random(23);
+			List<String> values = new ArrayList<>();
+
+			for (int index = 0; index < 5_000; index++)
+			{
+				StringBuilder value = new StringBuilder(words[random.nextInt(words.length)]);
+
+				for (int count = random.nextInt(4); count > 0; count--) {
+					value.append('_').append(words[random.nextInt(words.length)]);
+				}
+
+				values.add(Notations.to(value, notationTypes[random.nextInt(notationTypes.length)]));
+			}
+
+			NotationTrie trie = new NotationTrie(values);
+
+			assertThat(trie.size()).isEqualTo(values.size());
+
+			for (int attempt = 0; attempt < 300; attempt++)
+			{
+				String prefix = Notations.toSnakeCase(values.get(random.nextInt(values.size())));
+				prefix = prefix.substring(0, random.nextInt(prefix.length() + 1));
+
+				List<String> expected = new ArrayList<>();
+
+				for (String value : values)
+				{
+					if (Notations.toSnakeCase(value).startsWith(prefix)) {
+						expected.add(value);
+					}
+				}
+
+				for (NotationType notationType : notationTypes)
+				{
+					if (prefix.endsWith("_")) {
+						continue;
+					}
+
+					String query = prefix.isEmpty() ? prefix : Notations.to(prefix, notationType);
+
+					if (!Notations.equalsIgnoringNotation(query, prefix)) {
+						continue;
+					}
+
+					assertThat(trie.find(query)).as(query).containsExactlyInAnyOrderElementsOf(expected);
+				}
+
+				assertThat(trie.find(prefix)).as(prefix).containsExactlyInAnyOrderElementsOf(expected);
+			}
+		}
+	}
+}
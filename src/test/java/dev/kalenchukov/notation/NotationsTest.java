@@ -26,11 +26,30 @@ package dev.kalenchukov.notation;
 
 import dev.kalenchukov.notation.resources.NotationType;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Класс проверки методов класса {@link Notations}.
@@ -1249,5 +1268,660 @@ public class NotationsTest
 
 			assertThat(actualString).isEqualTo(expectedString);
 		}
+
+		/**
+		 * Класс проверки метода {@link Notations#detect(CharSequence)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class Detect
+		{
+			/**
+			 * Проверка метода {@link Notations#detect(CharSequence)}.
+			 *
+			 * @param value проверяемое значение.
+			 * @param expectedNotationTypes ожидаемые нотации.
+			 */
+			@ParameterizedTest
+			@CsvSource(delimiter = ';', value = {
+				"hello; SNAKE_CASE KEBAB_CASE CAMEL_CASE DOT_CASE",
+				"HELLO; UPPER_CASE PASCAL_CASE TRAIN_CASE",
+				"Hello; PASCAL_CASE",
+				"hello1; SNAKE_CASE KEBAB_CASE CAMEL_CASE DOT_CASE",
+				"HELLO_WORLD; UPPER_CASE",
+				"HELLO-WORLD; TRAIN_CASE",
+				"hello_world; SNAKE_CASE",
+				"hello-world; KEBAB_CASE",
+				"hello.world; DOT_CASE",
+				"helloWorld; CAMEL_CASE",
+				"HelloWorld; PASCAL_CASE"
+			})
+			public void detect(String value, String expectedNotationTypes)
+			{
+				Set<NotationType> expected = EnumSet.noneOf(NotationType.class);
+
+				for (String notationType : expectedNotationTypes.split(" ")) {
+					expected.add(NotationType.valueOf(notationType));
+				}
+
+				Set<NotationType> actual = Notations.detect(value);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Notations#detect(CharSequence)} со строкой без нотации.
+			 *
+			 * @param value проверяемое значение.
+			 */
+			@ParameterizedTest
+			@ValueSource(strings = {
+				"", "_", "0", "1hello", "hello__world", "hello_World", "hello world", "hello-", "привет"
+			})
+			public void detectNothing(String value)
+			{
+				Set<NotationType> actual = Notations.detect(value);
+
+				assertThat(actual).isEmpty();
+			}
+
+			/**
+			 * Проверка метода {@link Notations#detect(CharSequence)} на соответствие методу
+			 * {@link Notations#is(String, NotationType)}.
+			 *
+			 * @param value проверяемое значение.
+			 */
+			@ParameterizedTest
+			@ValueSource(strings = {
+				"hello", "HELLO", "hel1lo_000_world1", "HEL1LO-000-WORLD1", "hellOWorld", "HelloWorlD", "a.b.c"
+			})
+			public void detectSameAsIs(String value)
+			{
+				Set<NotationType> expected = EnumSet.noneOf(NotationType.class);
+
+				for (NotationType notationType : NotationType.values())
+				{
+					if (Notations.is(value, notationType)) {
+						expected.add(notationType);
+					}
+				}
+
+				Set<NotationType> actual = Notations.detect(value);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки методов {@link Notations#to(CharSequence, NotationType, Appendable)}
+		 * и {@link Notations#to(CharSequence, NotationType, StringBuilder)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class ToDestination
+		{
+			/**
+			 * Проверка метода {@link Notations#to(CharSequence, NotationType, StringBuilder)}.
+			 *
+			 * @param notationType тип нотации.
+			 */
+			@ParameterizedTest
+			@EnumSource(NotationType.class)
+			public void toStringBuilder(NotationType notationType)
+			{
+				String value = "hello World-matrix_helloWorld.Matrix1";
+				StringBuilder destination = new StringBuilder("key: ");
+
+				Notations.to(value, notationType, destination);
+
+				assertThat(destination.toString()).isEqualTo("key: " + Notations.to(value, notationType));
+			}
+
+			/**
+			 * Проверка метода {@link Notations#to(CharSequence, NotationType, Appendable)}.
+			 *
+			 * @param notationType тип нотации.
+			 * @throws IOException если произошла ошибка ввода-вывода.
+			 */
+			@ParameterizedTest
+			@EnumSource(NotationType.class)
+			public void toAppendable(NotationType notationType) throws IOException
+			{
+				String value = "hello World-matrix_helloWorld.Matrix1";
+				StringWriter destination = new StringWriter();
+
+				Notations.to(value, notationType, (Appendable) destination);
+
+				assertThat(destination.toString()).isEqualTo(Notations.to(value, notationType));
+			}
+
+			/**
+			 * Проверка метода {@link Notations#to(CharSequence, NotationType, Appendable)}
+			 * с ошибкой ввода-вывода.
+			 */
+			@Test
+			public void toAppendableIOException()
+			{
+				Appendable destination = new Writer() {
+					@Override
+					public void write(char[] buffer, int offset, int length) throws IOException {
+						throw new IOException();
+					}
+
+					@Override
+					public void flush() {}
+
+					@Override
+					public void close() {}
+				};
+
+				assertThatThrownBy(() -> Notations.to("helloWorld", NotationType.SNAKE_CASE, destination))
+					.isInstanceOf(IOException.class);
+			}
+		}
+
+		/**
+		 * Класс проверки методов {@link Notations#measure(CharSequence, NotationType)}
+		 * и {@link Notations#convert(char[], int, int, NotationType, char[], int)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class Convert
+		{
+			/**
+			 * Проверка метода {@link Notations#measure(CharSequence, NotationType)}.
+			 *
+			 * @param notationType тип нотации.
+			 */
+			@ParameterizedTest
+			@EnumSource(NotationType.class)
+			public void measure(NotationType notationType)
+			{
+				String value = "hello World-matrix_helloWorld.Matrix1";
+				int expectedLength = Notations.to(value, notationType).length();
+
+				int actualLength = Notations.measure(value, notationType);
+
+				assertThat(actualLength).isEqualTo(expectedLength);
+			}
+
+			/**
+			 * Проверка метода {@link Notations#convert(char[], int, int, NotationType, char[], int)}.
+			 *
+			 * @param notationType тип нотации.
+			 */
+			@ParameterizedTest
+			@EnumSource(NotationType.class)
+			public void convert(NotationType notationType)
+			{
+				String value = "hello World-matrix_helloWorld.Matrix1";
+				String expectedString = Notations.to(value, notationType);
+				char[] source = ("##" + value + "##").toCharArray();
+				char[] destination = new char[expectedString.length() + 4];
+
+				int actualLength = Notations.convert(source, 2, value.length(), notationType, destination, 3);
+
+				assertThat(actualLength).isEqualTo(expectedString.length());
+				assertThat(new String(destination, 3, actualLength)).isEqualTo(expectedString);
+			}
+
+			/**
+			 * Проверка метода {@link Notations#convert(char[], int, int, NotationType, char[], int)}
+			 * с диапазоном за пределами массива.
+			 */
+			@Test
+			public void convertOutOfBounds()
+			{
+				char[] source = "helloWorld".toCharArray();
+				char[] destination = new char[5];
+
+				assertThatThrownBy(() -> Notations.convert(source, 5, 10, NotationType.SNAKE_CASE, destination, 0))
+					.isInstanceOf(IndexOutOfBoundsException.class);
+				assertThatThrownBy(() -> Notations.convert(source, 0, 10, NotationType.SNAKE_CASE, destination, 0))
+					.isInstanceOf(IndexOutOfBoundsException.class);
+			}
+		}
+
+		/**
+		 * Класс проверки методов с параметром {@link CharSequence}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class CharSequenceValue
+		{
+			/**
+			 * Проверка метода {@link Notations#is(CharSequence, NotationType)}.
+			 *
+			 * @param notationType тип нотации.
+			 */
+			@ParameterizedTest
+			@EnumSource(NotationType.class)
+			public void is(NotationType notationType)
+			{
+				String value = Notations.to("hello_world1_matrix", notationType);
+
+				for (CharSequence actualValue : CharSequenceValue.this.wrap(value)) {
+					assertThat(Notations.is(actualValue, notationType)).isTrue();
+				}
+
+				for (CharSequence actualValue : CharSequenceValue.this.wrap(value + "#")) {
+					assertThat(Notations.is(actualValue, notationType)).isFalse();
+				}
+			}
+
+			/**
+			 * Проверка методов {@code Notations.is*(CharSequence)}.
+			 */
+			@Test
+			public void isNotation()
+			{
+				assertThat(Notations.isUpperCase(new StringBuilder("HELLO_WORLD"))).isTrue();
+				assertThat(Notations.isKebabCase(new StringBuilder("hello-world"))).isTrue();
+				assertThat(Notations.isSnakeCase(new StringBuilder("hello_world"))).isTrue();
+				assertThat(Notations.isCamelCase(new StringBuilder("helloWorld"))).isTrue();
+				assertThat(Notations.isPascalCase(new StringBuilder("HelloWorld"))).isTrue();
+				assertThat(Notations.isDotCase(new StringBuilder("hello.world"))).isTrue();
+				assertThat(Notations.isTrainCase(new StringBuilder("HELLO-WORLD"))).isTrue();
+			}
+
+			/**
+			 * Проверка метода {@link Notations#to(CharSequence, NotationType)}.
+			 *
+			 * @param notationType тип нотации.
+			 */
+			@ParameterizedTest
+			@EnumSource(NotationType.class)
+			public void to(NotationType notationType)
+			{
+				String value = "hello World-matrix_helloWorld.Matrix1";
+				String expectedString = Notations.to(value, notationType);
+
+				for (CharSequence actualValue : CharSequenceValue.this.wrap(value)) {
+					assertThat(Notations.to(actualValue, notationType)).isEqualTo(expectedString);
+				}
+			}
+
+			/**
+			 * Проверка методов {@code Notations.to*(CharSequence)}.
+			 */
+			@Test
+			public void toNotation()
+			{
+				CharSequence value = new StringBuilder("helloWorld");
+
+				assertThat(Notations.toUpperCase(value)).isEqualTo("HELLO_WORLD");
+				assertThat(Notations.toKebabCase(value)).isEqualTo("hello-world");
+				assertThat(Notations.toSnakeCase(value)).isEqualTo("hello_world");
+				assertThat(Notations.toCamelCase(value)).isEqualTo("helloWorld");
+				assertThat(Notations.toPascalCase(value)).isEqualTo("HelloWorld");
+				assertThat(Notations.toDotCase(value)).isEqualTo("hello.world");
+				assertThat(Notations.toTrainCase(value)).isEqualTo("HELLO-WORLD");
+			}
+
+			/**
+			 * Проверка метода {@link Notations#detect(CharSequence)} с частью буфера символов.
+			 */
+			@Test
+			public void detect()
+			{
+				CharBuffer value = CharBuffer.wrap("#hello_world#".toCharArray(), 1, 11);
+
+				Set<NotationType> actual = Notations.detect(value);
+
+				assertThat(actual).containsExactly(NotationType.SNAKE_CASE);
+			}
+
+			/**
+			 * Возвращает значение в виде разных реализаций {@link CharSequence}.
+			 *
+			 * @param value значение.
+			 * @return значение в виде разных реализаций {@link CharSequence}.
+			 */
+			private List<CharSequence> wrap(String value)
+			{
+				char[] buffer = ("##" + value + "##").toCharArray();
+
+				return List.of(
+					new StringBuilder(value),
+					CharBuffer.wrap(value),
+					CharBuffer.wrap(buffer, 2, value.length()),
+					CharBuffer.wrap(buffer, 2, value.length()).slice(),
+					CharBuffer.wrap(buffer, 2, value.length()).asReadOnlyBuffer()
+				);
+			}
+		}
+
+		/**
+		 * Класс проверки методов {@code Notations.toAll} и {@code Notations.isAll}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class All
+		{
+			/**
+			 * Проверка метода {@link Notations#toAll(List, NotationType)}.
+			 *
+			 * @param notationType тип нотации.
+			 */
+			@ParameterizedTest
+			@EnumSource(NotationType.class)
+			public void toAllList(NotationType notationType)
+			{
+				List<String> values = List.of("helloWorld", "hello_world", "helloWorld", "HELLO", "", "helloWorld");
+				List<String> expected = values.stream().map(value -> Notations.to(value, notationType)).toList();
+
+				List<String> actual = Notations.toAll(values, notationType);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Notations#toAll(String[], NotationType)}.
+			 */
+			@Test
+			public void toAllArray()
+			{
+				String[] values = {"helloWorld", "hello World-matrix_helloWorld.Matrix1", "helloWorld"};
+
+				String[] actual = Notations.toAll(values, NotationType.SNAKE_CASE);
+
+				assertThat(actual).containsExactly(
+					"hello_world", "hello_world_matrix_hello_world_matrix1", "hello_world"
+				);
+				assertThat(actual[2]).isSameAs(actual[0]);
+			}
+
+			/**
+			 * Проверка метода {@link Notations#toAll(String[], NotationType)} со значением {@code null}.
+			 */
+			@Test
+			public void toAllNull()
+			{
+				String[] values = {"helloWorld", null};
+
+				assertThatThrownBy(() -> Notations.toAll(values, NotationType.SNAKE_CASE))
+					.isInstanceOf(NullPointerException.class);
+			}
+
+			/**
+			 * Проверка метода {@link Notations#isAll(String[], NotationType)}.
+			 */
+			@Test
+			public void isAllArray()
+			{
+				String[] values = {"hello_world", "helloWorld", "hello_world", ""};
+
+				boolean[] actual = Notations.isAll(values, NotationType.SNAKE_CASE);
+
+				assertThat(actual).containsExactly(true, false, true, false);
+			}
+
+			/**
+			 * Проверка метода {@link Notations#isAll(List, NotationType)}.
+			 */
+			@Test
+			public void isAllList()
+			{
+				List<CharSequence> values = List.of("helloWorld", new StringBuilder("hello_world"));
+
+				boolean[] actual = Notations.isAll(values, NotationType.CAMEL_CASE);
+
+				assertThat(actual).containsExactly(true, false);
+			}
+		}
+
+		/**
+		 * Класс проверки методов {@code Notations.parallelTo}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class ParallelTo
+		{
+			/**
+			 * Проверка метода {@link Notations#parallelTo(String[], NotationType, ForkJoinPool)}.
+			 *
+			 * @param notationType тип нотации.
+			 */
+			@ParameterizedTest
+			@EnumSource(NotationType.class)
+			public void parallelToArray(NotationType notationType)
+			{
+				String[] values = new String[10_000];
+
+				for (int index = 0; index < values.length; index++) {
+					values[index] = "userAccount" + index + "_createdAt";
+				}
+
+				ForkJoinPool pool = new ForkJoinPool(4);
+
+				try
+				{
+					String[] actual = Notations.parallelTo(values, notationType, pool);
+
+					assertThat(actual).containsExactly(Notations.toAll(values, notationType));
+				}
+				finally
+				{
+					pool.shutdown();
+				}
+			}
+
+			/**
+			 * Проверка метода {@link Notations#parallelTo(Collection, NotationType, ForkJoinPool)}.
+			 */
+			@Test
+			public void parallelToCollection()
+			{
+				Collection<String> values = new ArrayDeque<>(List.of("helloWorld", "hello-world", "HELLO"));
+
+				List<String> actual = Notations.parallelTo(values, NotationType.SNAKE_CASE, ForkJoinPool.commonPool());
+
+				assertThat(actual).containsExactly("hello_world", "hello_world", "hello");
+			}
+
+			/**
+			 * Проверка метода {@link Notations#parallelTo(String[], NotationType, ForkJoinPool)}
+			 * со значением {@code null}.
+			 */
+			@Test
+			public void parallelToNull()
+			{
+				String[] values = new String[5_000];
+				Arrays.fill(values, "helloWorld");
+				values[4_000] = null;
+
+				assertThatThrownBy(() -> Notations.parallelTo(values, NotationType.SNAKE_CASE, ForkJoinPool.commonPool()))
+					.isInstanceOf(NullPointerException.class);
+			}
+		}
+
+		/**
+		 * Проверка метода {@link Notations#wordStream(CharSequence)}.
+		 */
+		@Test
+		public void wordStream()
+		{
+			List<String> actual = Notations.wordStream("getUserAccountId")
+				.map(CharSequence::toString)
+				.toList();
+
+			assertThat(actual).containsExactly("get", "User", "Account", "Id");
+		}
+
+		/**
+		 * Проверка метода {@link Notations#toSnakeCase(String)} со строкой в нотации Snake Case.
+		 */
+		@Test
+		public void toSnakeCaseSameInstance()
+		{
+			String value = "user_account_id";
+
+			String actualString = Notations.toSnakeCase(value);
+
+			assertThat(actualString).isSameAs(value);
+		}
+
+		/**
+		 * Проверка метода {@link Notations#toCamelCase(String)} со строкой, которая соответствует
+		 * нотации Camel Case, но изменяется при преобразовании.
+		 */
+		@Test
+		public void toCamelCaseNotFixedPoint()
+		{
+			String value = "hellOWorld";
+
+			String actualString = Notations.toCamelCase(value);
+
+			assertThat(Notations.isCamelCase(value)).isTrue();
+			assertThat(actualString).isEqualTo("hellOworld");
+		}
+
+		/**
+		 * Класс проверки методов для байтов UTF-8.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class ByteValue
+		{
+			/**
+			 * Проверка метода {@link Notations#is(ByteBuffer, NotationType)}.
+			 */
+			@Test
+			public void isByteBuffer()
+			{
+				ByteBuffer value = ByteBuffer.wrap("xx_hello_world".getBytes(StandardCharsets.UTF_8)).position(3);
+
+				assertThat(Notations.is(value, NotationType.SNAKE_CASE)).isTrue();
+				assertThat(Notations.is(value, NotationType.CAMEL_CASE)).isFalse();
+				assertThat(value.position()).isEqualTo(3);
+			}
+
+			/**
+			 * Проверка метода {@link Notations#convert(ByteBuffer, NotationType, ByteBuffer)}.
+			 */
+			@Test
+			public void convertByteBuffer()
+			{
+				ByteBuffer source = ByteBuffer.wrap("userAccountId".getBytes(StandardCharsets.UTF_8));
+				ByteBuffer destination = ByteBuffer.allocateDirect(32).put((byte) '#');
+
+				int written = Notations.convert(source, NotationType.SNAKE_CASE, destination);
+
+				byte[] actual = new byte[written];
+				destination.flip().get();
+				destination.get(actual);
+
+				assertThat(new String(actual, StandardCharsets.UTF_8)).isEqualTo("user_account_id");
+				assertThat(source.hasRemaining()).isFalse();
+			}
+
+			/**
+			 * Проверка метода {@link Notations#convert(ByteBuffer, NotationType, ByteBuffer)}
+			 * с недостаточным местом для результата.
+			 */
+			@Test
+			public void convertByteBufferOverflow()
+			{
+				ByteBuffer source = ByteBuffer.wrap("userAccountId".getBytes(StandardCharsets.UTF_8));
+				ByteBuffer destination = ByteBuffer.allocate(14);
+
+				assertThatThrownBy(() -> Notations.convert(source, NotationType.SNAKE_CASE, destination))
+					.isInstanceOf(BufferOverflowException.class);
+
+				assertThat(source.position()).isZero();
+				assertThat(destination.position()).isZero();
+			}
+
+			/**
+			 * Проверка метода {@link Notations#convert(byte[], int, int, NotationType, byte[], int)}
+			 * со строкой не из ASCII.
+			 */
+			@Test
+			public void convertBytes()
+			{
+				byte[] source = "приветМир".getBytes(StandardCharsets.UTF_8);
+				byte[] destination = new byte[64];
+
+				int written = Notations.convert(source, 0, source.length, NotationType.UPPER_CASE, destination, 0);
+
+				assertThat(new String(destination, 0, written, StandardCharsets.UTF_8)).isEqualTo("ПРИВЕТМИР");
+				assertThat(Notations.is(source, 0, source.length, NotationType.CAMEL_CASE)).isFalse();
+
+				assertThatThrownBy(() -> Notations.convert(source, 0, source.length, NotationType.UPPER_CASE, destination, 60))
+					.isInstanceOf(IndexOutOfBoundsException.class);
+			}
+		}
+
+		/**
+		 * Класс проверки методов сравнения без учёта нотации.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class IgnoringNotation
+		{
+			/**
+			 * Проверка метода {@link Notations#equalsIgnoringNotation(CharSequence, CharSequence)}.
+			 *
+			 * @param value строка.
+			 * @param other строка.
+			 */
+			@ParameterizedTest
+			@CsvSource({
+				"userId, user_id",
+				"userId, USER-ID",
+				"user_id, User.Id",
+				"userAccountId, user-account-id",
+				"HTTPServer, httpserver"
+			})
+			public void equalsIgnoringNotation(String value, String other)
+			{
+				assertThat(Notations.equalsIgnoringNotation(value, other)).isTrue();
+				assertThat(Notations.equalsIgnoringNotation(new StringBuilder(other), value)).isTrue();
+				assertThat(Notations.notationInsensitiveOrder().compare(value, other)).isZero();
+				assertThat(Notations.notationInsensitiveHash(value)).isEqualTo(Notations.notationInsensitiveHash(other));
+			}
+
+			/**
+			 * Проверка метода {@link Notations#equalsIgnoringNotation(CharSequence, CharSequence)}
+			 * с разными последовательностями слов.
+			 *
+			 * @param value строка.
+			 * @param other строка.
+			 */
+			@ParameterizedTest
+			@CsvSource({
+				"userId, userid",
+				"userId, user_ids",
+				"user_id, user__id",
+				"userId, idUser"
+			})
+			public void notEqualsIgnoringNotation(String value, String other)
+			{
+				assertThat(Notations.equalsIgnoringNotation(value, other)).isFalse();
+				assertThat(Notations.notationInsensitiveOrder().compare(value, other)).isNotZero();
+				assertThat(Notations.notationInsensitiveHash(value)).isNotEqualTo(Notations.notationInsensitiveHash(other));
+			}
+
+			/**
+			 * Проверка метода {@link Notations#notationInsensitiveOrder()}.
+			 */
+			@Test
+			public void notationInsensitiveOrder()
+			{
+				List<String> values = new ArrayList<>(List.of("user_name", "USER-ID", "user", "userAccount", "userId"));
+
+				values.sort(Notations.notationInsensitiveOrder());
+
+				assertThat(values).containsExactly("user", "userAccount", "USER-ID", "userId", "user_name");
+			}
+		}
 	}
 }
\ No newline at end of file
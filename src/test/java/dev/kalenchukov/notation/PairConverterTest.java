@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link PairConverter}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class PairConverterTest
+{
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link PairConverter#convert(CharSequence, NotationType, NotationType)}.
+		 *
+		 * @param value проверяемое значение.
+		 * @param from исходная нотация.
+		 * @param to нотация, в которую преобразуется строка.
+		 * @param expectedString ожидаемая строка.
+		 */
+		@ParameterizedTest
+		@CsvSource(delimiter = ';', value = {
+			"user_account_id; SNAKE_CASE; KEBAB_CASE; user-account-id",
+			"USER_ACCOUNT_ID; UPPER_CASE; SNAKE_CASE; user_account_id",
+			"log-level; KEBAB_CASE; CAMEL_CASE; logLevel",
+			"userAccountId; CAMEL_CASE; TRAIN_CASE; USER-ACCOUNT-ID",
+			"hellOWorld; CAMEL_CASE; SNAKE_CASE; hell_oworld",
+			"user2Id; CAMEL_CASE; DOT_CASE; user2id",
+			"helloWorld; SNAKE_CASE; KEBAB_CASE; hello-world"
+		})
+		public void convert(String value, NotationType from, NotationType to, String expectedString)
+		{
+			String actualString = PairConverter.convert(value, from, to);
+
+			assertThat(actualString).isEqualTo(expectedString);
+		}
+
+		/**
+		 * Проверка метода {@link PairConverter#convert(CharSequence, NotationType, NotationType)}
+		 * со строкой, которая не изменяется.
+		 *
+		 * @param value проверяемое значение.
+		 * @param from исходная нотация.
+		 * @param to нотация, в которую преобразуется строка.
+		 */
+		@ParameterizedTest
+		@CsvSource(delimiter = ';', value = {
+			"hello; SNAKE_CASE; KEBAB_CASE",
+			"HELLO; UPPER_CASE; TRAIN_CASE",
+			"user2id; KEBAB_CASE; DOT_CASE"
+		})
+		public void convertUnchanged(String value, NotationType from, NotationType to)
+		{
+			String actualString = PairConverter.convert(value, from, to);
+
+			assertThat(actualString).isSameAs(value);
+		}
+
+		/**
+		 * Проверка метода {@link PairConverter#convert(CharSequence, NotationType, NotationType)}.
+		 * <p>Результат сравнивается с {@link Converter#convert(CharSequence, NotationType)} для всех нотаций
+		 * на всех строках из символов {@link AutomatonTest#ALPHABET} длиной до {@link AutomatonTest#MAX_LENGTH}.</p>
+		 *
+		 * @param from исходная нотация.
+		 */
+		@ParameterizedTest
+		@EnumSource(NotationType.class)
+		public void convertSameAsConverter(NotationType from)
+		{
+			AutomatonTest.forEachValue(value -> {
+				for (NotationType to : NotationType.values())
+				{
+					String expectedString = Converter.convert(value, to);
+
+					String actualString = PairConverter.convert(value, from, to);
+
+					assertThat(actualString).as(value + " " + to).isEqualTo(expectedString);
+				}
+			});
+		}
+	}
+}
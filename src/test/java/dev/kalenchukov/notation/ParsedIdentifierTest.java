@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс проверки методов класса {@link ParsedIdentifier}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ParsedIdentifierTest
+{
+	/**
+	 * Класс проверки методов объекта.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Instance
+	{
+		/**
+		 * Проверка метода {@link ParsedIdentifier#to(NotationType)}.
+		 * Результат совпадает с {@link Converter#convert(CharSequence, NotationType)} для всех нотаций.
+		 *
+		 * @param value проверяемое значение.
+		 */
+		@ParameterizedTest
+		@ValueSource(strings = {
+			"", "a", "A", "_", "helloWorld", "HelloWorld", "hello_world", "HELLO-WORLD", "hello.world",
+			"hellOWorld", "hel1lo_000_world1", "_hello_", "hello__world", "hello+world", "привет_мир",
+			"helloW", "aB-c_D.e", "user2Id", "XMLHttpRequest"
+		})
+		public void to(String value)
+		{
+			ParsedIdentifier identifier = Notations.parse(value);
+
+			for (NotationType notationType : NotationType.values()) {
+				assertThat(identifier.to(notationType)).isEqualTo(Converter.convert(value, notationType));
+			}
+		}
+
+		/**
+		 * Проверка метода {@link ParsedIdentifier#toAll()}.
+		 */
+		@Test
+		public void toAll()
+		{
+			Map<NotationType, String> actual = Notations.parse("userAccountId").toAll();
+
+			assertThat(actual).containsOnlyKeys(NotationType.values());
+			assertThat(actual.get(NotationType.SNAKE_CASE)).isEqualTo("user_account_id");
+			assertThat(actual.get(NotationType.UPPER_CASE)).isEqualTo("USER_ACCOUNT_ID");
+			assertThat(actual.get(NotationType.DOT_CASE)).isEqualTo("user.account.id");
+			assertThat(actual.get(NotationType.PASCAL_CASE)).isEqualTo("UserAccountId");
+		}
+
+		/**
+		 * Проверка методов {@link ParsedIdentifier#getWordCount()} и {@link ParsedIdentifier#getWord(int)}.
+		 */
+		@Test
+		public void getWord()
+		{
+			ParsedIdentifier identifier = Notations.parse("userAccount_ID");
+
+			assertThat(identifier.getWordCount()).isEqualTo(3);
+			assertThat(identifier.getWord(0)).isEqualTo("user");
+			assertThat(identifier.getWord(1)).isEqualTo("Account");
+			assertThat(identifier.getWord(2)).isEqualTo("ID");
+			assertThat(Notations.parse("").getWordCount()).isZero();
+
+			assertThatThrownBy(() -> identifier.getWord(3))
+				.isInstanceOf(IndexOutOfBoundsException.class);
+		}
+	}
+}
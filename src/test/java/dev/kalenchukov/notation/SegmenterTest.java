@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link Segmenter}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class SegmenterTest
+{
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка метода {@link Segmenter#getBoundary(CharSequence, int, int, int)}.
+		 * <p>В ожидаемом значении символ {@literal «|»} обозначает разделитель слов,
+		 * символ {@literal «^»} — начало нового слова, символ {@literal «.»} — отсутствие границы.</p>
+		 *
+		 * @param value проверяемое значение.
+		 * @param expectedBoundaries ожидаемые границы слов.
+		 */
+		@ParameterizedTest
+		@CsvSource(delimiter = ';', value = {
+			"hello_world; .....|.....",
+			"hello-world; .....|.....",
+			"hello.world; .....|.....",
+			"hello world; .....|.....",
+			"helloWorld; .....^....",
+			"HelloWorld; .....^....",
+			"HELLO_WORLD; .....|.....",
+			"hello1_world; ......|.....",
+			"hello_1world; .....|......",
+			"hello1World; ...........",
+			"helloW; ......",
+			"hellOWorld; ....^.....",
+			"_hello_; .......",
+			"hello__world; ............",
+			"hello_#world; ............",
+			"привет_мир; .........."
+		})
+		public void getBoundary(String value, String expectedBoundaries)
+		{
+			StringBuilder actualBoundaries = new StringBuilder();
+
+			for (int index = 0; index < value.length(); index++)
+			{
+				actualBoundaries.append(switch (Segmenter.getBoundary(value, 0, value.length(), index)) {
+					case Segmenter.SEPARATOR -> '|';
+					case Segmenter.SPLIT -> '^';
+					default -> '.';
+				});
+			}
+
+			assertThat(actualBoundaries.toString()).isEqualTo(expectedBoundaries);
+		}
+
+		/**
+		 * Проверка метода {@link Segmenter#getBoundary(CharSequence, int, int, int)} внутри диапазона строки.
+		 */
+		@ParameterizedTest
+		@CsvSource({
+			"1, 0",
+			"6, 1",
+			"11, 0"
+		})
+		public void getBoundaryInRange(int index, int expectedBoundary)
+		{
+			String value = "#hello_world#";
+
+			int actualBoundary = Segmenter.getBoundary(value, 1, 12, index);
+
+			assertThat(actualBoundary).isEqualTo(expectedBoundary);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import dev.kalenchukov.notation.resources.NotationType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link WordComparator}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class WordComparatorTest
+{
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Проверка методов {@link WordComparator#equals(CharSequence, CharSequence)}
+		 * и {@link WordComparator#hash(CharSequence)}.
+		 * <p>Строки из символов {@link AutomatonTest#ALPHABET} длиной до {@link AutomatonTest#MAX_LENGTH}
+		 * группируются по записи в нотации Snake Case. Каждая строка должна быть равна первой строке
+		 * своей группы и иметь тот же хеш-код.</p>
+		 */
+		@Test
+		public void equalsSameAsSnakeCase()
+		{
+			Map<String, String> representatives = new HashMap<>();
+
+			AutomatonTest.forEachValue(value -> {
+				String representative = representatives.computeIfAbsent(
+					Converter.convert(value, NotationType.SNAKE_CASE), key -> value
+				);
+
+				assertThat(WordComparator.equals(value, representative)).as(value).isTrue();
+				assertThat(WordComparator.INSTANCE.compare(value, representative)).as(value).isZero();
+				assertThat(WordComparator.hash(value)).as(value).isEqualTo(WordComparator.hash(representative));
+			});
+		}
+
+		/**
+		 * Проверка метода {@link WordComparator#compare(CharSequence, CharSequence)}.
+		 * <p>После сортировки строк из символов {@link AutomatonTest#ALPHABET} длиной до
+		 * {@link AutomatonTest#MAX_LENGTH} соседние строки равны тогда и только тогда, когда равны
+		 * их записи в нотации Snake Case, а каждая группа равных строк идёт подряд.</p>
+		 */
+		@Test
+		public void compareConsistentWithSnakeCase()
+		{
+			List<String> values = new ArrayList<>();
+
+			AutomatonTest.forEachValue(values::add);
+
+			values.sort(WordComparator.INSTANCE);
+
+			Set<String> finished = new HashSet<>();
+			String previousKey = null;
+
+			for (int index = 0; index < values.size(); index++)
+			{
+				String key = Converter.convert(values.get(index), NotationType.SNAKE_CASE);
+
+				if (index > 0)
+				{
+					int comparison = WordComparator.INSTANCE.compare(values.get(index - 1), values.get(index));
+
+					assertThat(comparison).as(values.get(index)).isLessThanOrEqualTo(0);
+					assertThat(comparison == 0).as(values.get(index)).isEqualTo(key.equals(previousKey));
+					assertThat(Integer.signum(WordComparator.INSTANCE.compare(values.get(index), values.get(index - 1))))
+						.isEqualTo(-Integer.signum(comparison));
+				}
+
+				if (!key.equals(previousKey)) {
+					assertThat(finished.add(key)).as(key).isTrue();
+				}
+
+				previousKey = key;
+			}
+		}
+
+		/**
+		 * Проверка метода {@link WordComparator#compare(CharSequence, CharSequence)} с разным количеством слов.
+		 */
+		@Test
+		public void compareByWords()
+		{
+			assertThat(WordComparator.INSTANCE.compare("user", "userId")).isNegative();
+			assertThat(WordComparator.INSTANCE.compare("user_id", "userAccount")).isPositive();
+			assertThat(WordComparator.INSTANCE.compare("user_id", "usera")).isNegative();
+			assertThat(WordComparator.INSTANCE.compare("USER-ID", "userId")).isZero();
+		}
+	}
+}
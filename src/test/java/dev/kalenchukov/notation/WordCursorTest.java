@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.notation;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс проверки методов класса {@link WordCursor}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class WordCursorTest
+{
+	/**
+	 * Класс проверки методов объекта.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Instance
+	{
+		/**
+		 * Проверка метода {@link WordCursor#next()}.
+		 *
+		 * @param value проверяемое значение.
+		 * @param expectedWords ожидаемые слова через пробел.
+		 */
+		@ParameterizedTest
+		@CsvSource(delimiter = ';', value = {
+			"getUserAccountId; get User Account Id",
+			"hello_world; hello world",
+			"HELLO-WORLD; HELLO WORLD",
+			"hello.world; hello world",
+			"_hello_; _hello_",
+			"hello__world; hello__world",
+			"hellOWorld; hell OWorld",
+			"user2Id; user2Id",
+			"a; a"
+		})
+		public void next(String value, String expectedWords)
+		{
+			WordCursor cursor = Notations.words(value);
+			List<String> actualWords = new ArrayList<>();
+
+			while (cursor.next()) {
+				actualWords.add(value.substring(cursor.getStart(), cursor.getEnd()));
+			}
+
+			assertThat(actualWords).containsExactly(expectedWords.split(" "));
+			assertThat(cursor.next()).isFalse();
+		}
+
+		/**
+		 * Проверка метода {@link WordCursor#next()} с пустой строкой.
+		 */
+		@Test
+		public void nextEmpty()
+		{
+			WordCursor cursor = Notations.words("");
+
+			assertThat(cursor.next()).isFalse();
+		}
+
+		/**
+		 * Проверка метода {@link WordCursor#getWord()}.
+		 */
+		@Test
+		public void getWord()
+		{
+			StringBuilder value = new StringBuilder("userId");
+			WordCursor cursor = Notations.words(value);
+
+			assertThatThrownBy(cursor::getWord)
+				.isInstanceOf(NoSuchElementException.class);
+
+			cursor.next();
+			cursor.next();
+
+			assertThat(cursor.getWord().toString()).isEqualTo("Id");
+
+			cursor.next();
+
+			assertThatThrownBy(cursor::getStart)
+				.isInstanceOf(NoSuchElementException.class);
+		}
+	}
+}
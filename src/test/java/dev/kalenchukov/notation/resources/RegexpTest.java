@@ -26,6 +26,9 @@ package dev.kalenchukov.notation.resources;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -65,6 +68,87 @@ public class RegexpTest
 		assertThat(actualPattern).isNotEmpty();
 	}
 
+	/**
+	 * Проверка метода {@link Regexp#getCompiledPattern()}.
+	 */
+	@Test
+	public void getCompiledPattern()
+	{
+		Regexp regexp = Regexp.CAMEL_CASE;
+
+		Pattern actualPattern = regexp.getCompiledPattern();
+
+		assertThat(actualPattern.pattern()).isEqualTo(regexp.getPattern());
+		assertThat(actualPattern.flags()).isEqualTo(Pattern.UNICODE_CASE);
+	}
+
+	/**
+	 * Проверка метода {@link Regexp#getCompiledPattern()} при повторном вызове.
+	 */
+	@Test
+	public void getCompiledPatternSameInstance()
+	{
+		Regexp regexp = Regexp.SNAKE_CASE;
+		Pattern expectedPattern = regexp.getCompiledPattern();
+
+		Pattern actualPattern = regexp.getCompiledPattern();
+
+		assertThat(actualPattern).isSameAs(expectedPattern);
+	}
+
+	/**
+	 * Проверка времени проверки строки регулярными выражениями констант {@link Regexp}
+	 * на длинных почти соответствующих нотации строках.
+	 * <p>Время на строке в 4 раза длиннее должно расти линейно, а не квадратично;
+	 * ограничение времени только прерывает зависание.</p>
+	 *
+	 * @param regexp регулярное выражение.
+	 * @param unit повторяемая часть строки.
+	 */
+	@ParameterizedTest
+	@CsvSource({
+		"UPPER_CASE, A", "UPPER_CASE, A_", "UPPER_CASE, A1",
+		"KEBAB_CASE, a", "KEBAB_CASE, a-", "KEBAB_CASE, a1",
+		"SNAKE_CASE, a", "SNAKE_CASE, a_", "SNAKE_CASE, a1",
+		"CAMEL_CASE, a", "CAMEL_CASE, aB", "CAMEL_CASE, aB1",
+		"PASCAL_CASE, A", "PASCAL_CASE, Ab", "PASCAL_CASE, AB1",
+		"DOT_CASE, a", "DOT_CASE, a.", "DOT_CASE, a1",
+		"TRAIN_CASE, A", "TRAIN_CASE, A-", "TRAIN_CASE, A1"
+	})
+	@Timeout(value = 60)
+	public void getCompiledPatternLinearTime(Regexp regexp, String unit)
+	{
+		String shortValue = unit.repeat(2_500 / unit.length()) + "#";
+		String longValue = unit.repeat(10_000 / unit.length()) + "#";
+		Pattern pattern = regexp.getCompiledPattern();
+
+		long shortTime = measureTime(() -> assertThat(pattern.matcher(shortValue).matches()).isFalse());
+		long longTime = measureTime(() -> assertThat(pattern.matcher(longValue).matches()).isFalse());
+
+		assertThat(longTime).isLessThan(shortTime * 8);
+	}
+
+	/**
+	 * Возвращает наименьшее время выполнения действия из нескольких запусков.
+	 * <p>Первые запуски включают прогрев JIT и сборку мусора, поэтому берётся наименьшее время.</p>
+	 *
+	 * @param action действие.
+	 * @return время выполнения в наносекундах.
+	 */
+	private static long measureTime(Runnable action)
+	{
+		long minimumTime = Long.MAX_VALUE;
+
+		for (int run = 0; run < 5; run++)
+		{
+			long startTime = System.nanoTime();
+			action.run();
+			minimumTime = Math.min(minimumTime, System.nanoTime() - startTime);
+		}
+
+		return minimumTime;
+	}
+
 	/**
 	 * Класс проверки регулярного выражения констант перечисления {@link Regexp}.
 	 *